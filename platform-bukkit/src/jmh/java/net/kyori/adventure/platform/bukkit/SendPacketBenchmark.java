@@ -0,0 +1,143 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.bukkit;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.lang.invoke.MethodHandles.filterArguments;
+import static java.lang.invoke.MethodHandles.filterReturnValue;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Measures the overhead of sending a packet through {@link MethodHandle}s.
+ *
+ * <p>NMS classes cannot be loaded outside a running server, so the player, entity and connection are replaced
+ * by classes of the same shape. The handles are built the same way as in {@link CraftBukkitFacet}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SendPacketBenchmark {
+  private static final MethodHandle CRAFT_PLAYER_GET_HANDLE;
+  private static final MethodHandle ENTITY_PLAYER_GET_CONNECTION;
+  private static final MethodHandle PLAYER_CONNECTION_SEND_PACKET;
+  private static final MethodHandle PLAYER_GET_CONNECTION; // (Object) -> Object
+  private static final MethodHandle CONNECTION_SEND_PACKET; // (Object, Object) -> void
+  private static final MethodHandle PLAYER_SEND_PACKET; // (Object, Object) -> void
+
+  static {
+    try {
+      final Method getHandleMethod = CraftPlayer.class.getMethod("getHandle");
+      final Field playerConnectionField = EntityPlayer.class.getField("playerConnection");
+      CRAFT_PLAYER_GET_HANDLE = lookup().unreflect(getHandleMethod);
+      ENTITY_PLAYER_GET_CONNECTION = lookup().unreflectGetter(playerConnectionField);
+      PLAYER_CONNECTION_SEND_PACKET = lookup().findVirtual(PlayerConnection.class, "sendPacket", methodType(void.class, Packet.class));
+
+      final MethodHandle getConnection = filterReturnValue(CRAFT_PLAYER_GET_HANDLE, ENTITY_PLAYER_GET_CONNECTION);
+      PLAYER_GET_CONNECTION = getConnection.asType(methodType(Object.class, Object.class));
+      CONNECTION_SEND_PACKET = PLAYER_CONNECTION_SEND_PACKET.asType(methodType(void.class, Object.class, Object.class));
+      PLAYER_SEND_PACKET = filterArguments(PLAYER_CONNECTION_SEND_PACKET, 0, getConnection).asType(methodType(void.class, Object.class, Object.class));
+    } catch(final Throwable error) {
+      throw new ExceptionInInitializerError(error);
+    }
+  }
+
+  private final Map<UUID, Object> connections = new ConcurrentHashMap<>();
+  private CraftPlayer player;
+  private Packet packet;
+
+  @Setup
+  public void setup() throws Throwable {
+    this.player = new CraftPlayer(new EntityPlayer(new PlayerConnection()));
+    this.packet = new Packet();
+    this.connections.put(this.player.uniqueId, (Object) PLAYER_GET_CONNECTION.invokeExact((Object) this.player));
+  }
+
+  @Benchmark
+  public void genericChain() throws Throwable {
+    PLAYER_CONNECTION_SEND_PACKET.invoke(ENTITY_PLAYER_GET_CONNECTION.invoke(CRAFT_PLAYER_GET_HANDLE.invoke(this.player)), this.packet);
+  }
+
+  @Benchmark
+  public void cachedConnection() throws Throwable {
+    CONNECTION_SEND_PACKET.invokeExact(this.connections.get(this.player.uniqueId), (Object) this.packet);
+  }
+
+  @Benchmark
+  public void fusedChain() throws Throwable {
+    PLAYER_SEND_PACKET.invokeExact((Object) this.player, (Object) this.packet);
+  }
+
+  public static final class CraftPlayer {
+    final UUID uniqueId = UUID.randomUUID();
+    private final EntityPlayer handle;
+
+    CraftPlayer(final EntityPlayer handle) {
+      this.handle = handle;
+    }
+
+    public EntityPlayer getHandle() {
+      return this.handle;
+    }
+  }
+
+  public static final class EntityPlayer {
+    public PlayerConnection playerConnection;
+
+    EntityPlayer(final PlayerConnection playerConnection) {
+      this.playerConnection = playerConnection;
+    }
+  }
+
+  public static final class PlayerConnection {
+    int sent;
+
+    public void sendPacket(final Packet packet) {
+      this.sent++;
+    }
+  }
+
+  public static final class Packet {
+  }
+}
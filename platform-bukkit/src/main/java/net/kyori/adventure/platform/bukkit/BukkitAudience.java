@@ -27,6 +27,7 @@ import com.viaversion.viaversion.api.connection.UserConnection;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.platform.facet.Facet;
 import net.kyori.adventure.platform.facet.FacetAudience;
+import net.kyori.adventure.platform.facet.FacetTable;
 import net.kyori.adventure.platform.viaversion.ViaFacet;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -44,6 +45,7 @@ final class BukkitAudience extends FacetAudience<CommandSender> {
   private static final Function<Player, UserConnection> VIA = new BukkitFacet.ViaHook();
   private static final Collection<Facet.Chat<? extends CommandSender, ?>> CHAT = Facet.of(
     () -> new ViaFacet.Chat<>(Player.class, VIA),
+    () -> new PaperFacet.Chat(),
     //    () -> new SpigotFacet.ChatWithType(),
     //    () -> new SpigotFacet.Chat(),
     () -> new CraftBukkitFacet.Chat(),
@@ -51,12 +53,13 @@ final class BukkitAudience extends FacetAudience<CommandSender> {
   private static final Collection<Facet.ActionBar<Player, ?>> ACTION_BAR = Facet.of(
     () -> new ViaFacet.ActionBarTitle<>(Player.class, VIA),
     () -> new ViaFacet.ActionBar<>(Player.class, VIA),
+    () -> new PaperFacet.ActionBar(),
     //    () -> new SpigotFacet.ActionBar(),
     () -> new CraftBukkitFacet.ActionBar(),
     () -> new CraftBukkitFacet.ActionBarLegacy());
   private static final Collection<Facet.Title<Player, ?, ?>> TITLE = Facet.of(
     () -> new ViaFacet.Title<>(Player.class, VIA),
-    // () -> new PaperFacet.Title(),
+    () -> new PaperFacet.Title(),
     () -> new CraftBukkitFacet.Title());
   private static final Collection<Facet.Sound<Player, Vector>> SOUND = Facet.of(
     () -> new BukkitFacet.SoundWithCategory(),
@@ -69,6 +72,7 @@ final class BukkitAudience extends FacetAudience<CommandSender> {
   private static final Collection<Facet.BossBar.Builder<Player, ?>> BOSS_BAR = Facet.of(
     () -> new ViaFacet.BossBar.Builder<>(Player.class, VIA),
     () -> new ViaFacet.BossBar.Builder1_9_To_1_15<>(Player.class, VIA),
+    () -> new PaperFacet.BossBar.Builder(),
     () -> new CraftBukkitFacet.BossBar.Builder(),
     () -> new BukkitFacet.BossBarBuilder(),
     () -> new CraftBukkitFacet.BossBarWither.Builder());
@@ -78,11 +82,12 @@ final class BukkitAudience extends FacetAudience<CommandSender> {
     () -> new CraftBukkitFacet.TabList(),
     () -> new BukkitFacet.TabList()
   );
+  private static final FacetTable<CommandSender> FACETS = new FacetTable<>(new BukkitFacet.ViaProtocolHook(), CHAT, ACTION_BAR, TITLE, SOUND, BOOK, BOSS_BAR, TAB_LIST);
 
   private final @NonNull Plugin plugin;
 
   BukkitAudience(final @NonNull Plugin plugin, final @NonNull Collection<CommandSender> viewers, final @Nullable Locale locale) {
-    super(viewers, locale, CHAT, ACTION_BAR, TITLE, SOUND, BOOK, BOSS_BAR, TAB_LIST);
+    super(viewers, locale, FACETS);
     this.plugin = plugin;
   }
 
@@ -28,7 +28,9 @@ import com.google.common.graph.MutableGraph;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.platform.facet.FacetAudienceProvider;
+import net.kyori.adventure.platform.facet.FacetTicker;
 import net.kyori.adventure.platform.facet.Knob;
+import net.kyori.adventure.platform.viaversion.ViaFacet;
 import net.kyori.adventure.translation.Translator;
 import org.bukkit.Bukkit;
 import org.bukkit.block.Block;
@@ -40,12 +42,15 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitTask;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -84,6 +89,7 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
   }
 
   private final Plugin plugin;
+  private final BukkitTask tickTask;
 
   BukkitAudiencesImpl(final @NonNull Plugin plugin) {
     this.plugin = plugin;
@@ -94,14 +100,37 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
     this.changeViewer(console, Locale.getDefault());
 
     for(final Player player : this.plugin.getServer().getOnlinePlayers()) {
+      CraftBukkitFacet.addConnection(player);
+      BukkitFacet.ViaProtocolHook.addConnection(player);
       this.addViewer(player);
     }
 
-    this.registerEvent(PlayerJoinEvent.class, EventPriority.LOWEST, event ->
-      this.addViewer(event.getPlayer()));
-    this.registerEvent(PlayerQuitEvent.class, EventPriority.MONITOR, event ->
-      this.removeViewer(event.getPlayer()));
+    this.registerEvent(PlayerJoinEvent.class, EventPriority.LOWEST, event -> {
+      CraftBukkitFacet.addConnection(event.getPlayer());
+      BukkitFacet.ViaProtocolHook.addConnection(event.getPlayer());
+      this.addViewer(event.getPlayer());
+    });
+    this.registerEvent(PlayerQuitEvent.class, EventPriority.MONITOR, event -> {
+      this.removeViewer(event.getPlayer());
+      CraftBukkitFacet.removeConnection(event.getPlayer());
+      ViaFacet.removeConnection(event.getPlayer());
+    });
+    this.registerEvent(PlayerChangedWorldEvent.class, EventPriority.MONITOR, event ->
+      this.refreshViewer(event.getPlayer()));
     this.registerLocaleEvent(this::changeViewer);
+    this.registerEvent(PluginDisableEvent.class, EventPriority.MONITOR, event -> {
+      if(event.getPlugin() == this.plugin) {
+        CraftBukkitFacet.FakeEntityTracker.untrackAll(this.plugin);
+      }
+    });
+
+    // Each instance ticks, so updates are still sent when one of the plugins is disabled
+    this.tickTask = this.plugin.getServer().getScheduler().runTaskTimer(this.plugin, () -> {
+      FacetTicker.tick();
+      if(CraftBukkitFacet.isFlushPerTick()) {
+        CraftBukkitFacet.flushChannels();
+      }
+    }, 1, 1);
   }
 
   @NonNull
@@ -138,6 +167,11 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
     return viewer instanceof ConsoleCommandSender;
   }
 
+  @Override
+  public void refreshPermissions(final @NonNull CommandSender sender) {
+    this.refreshViewer(sender);
+  }
+
   @Override
   protected boolean hasPermission(final @NonNull CommandSender viewer, final @NonNull String permission) {
     return viewer.hasPermission(permission);
@@ -156,6 +190,15 @@ final class BukkitAudiencesImpl extends FacetAudienceProvider<CommandSender, Buk
     return false;
   }
 
+  @Override
+  public void close() {
+    this.tickTask.cancel();
+    super.close();
+    if(CraftBukkitFacet.isFlushPerTick()) {
+      CraftBukkitFacet.flushChannels();
+    }
+  }
+
   @NonNull
   @Override
   protected BukkitAudience createAudience(final @NonNull Collection<CommandSender> viewers) {
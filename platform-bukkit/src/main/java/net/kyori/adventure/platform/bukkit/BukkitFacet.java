@@ -30,6 +30,7 @@ import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.platform.facet.Facet;
 import net.kyori.adventure.platform.facet.FacetBase;
+import net.kyori.adventure.platform.viaversion.ViaFacet;
 import net.kyori.adventure.sound.SoundStop;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
@@ -47,6 +48,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.Collection;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 import static net.kyori.adventure.platform.facet.Knob.logUnsupported;
 import static net.kyori.adventure.text.serializer.craftbukkit.BukkitComponentSerializer.legacy;
@@ -69,6 +71,11 @@ class BukkitFacet<V extends CommandSender> extends FacetBase<V> {
     public String createMessage(final @NonNull V viewer, final @NonNull Component message) {
       return legacy().serialize(message);
     }
+
+    @Override
+    public boolean isMessageCacheable() {
+      return true;
+    }
   }
 
   static class Chat extends Message<CommandSender> implements Facet.Chat<CommandSender, String> {
@@ -348,6 +355,29 @@ class BukkitFacet<V extends CommandSender> extends FacetBase<V> {
     }
   }
 
+  static final class ViaProtocolHook implements ToIntFunction<CommandSender> {
+    private static final boolean SUPPORTED = hasClass("com.viaversion.viaversion.api.Via");
+    private static final Function<Player, UserConnection> VIA = new ViaHook();
+
+    /**
+     * Caches the ViaVersion connection of a player.
+     *
+     * @param player a player
+     */
+    static void addConnection(final @NonNull Player player) {
+      if(SUPPORTED) {
+        ViaFacet.addConnection(player, VIA);
+      }
+    }
+
+    @Override
+    public int applyAsInt(final @NonNull CommandSender viewer) {
+      if(!SUPPORTED || !(viewer instanceof Player)) return 0; // Same as the server
+
+      return ViaFacet.findProtocol((Player) viewer, VIA);
+    }
+  }
+
   static final class TabList extends Message<Player> implements Facet.TabList<Player, String> {
     // All methods added at the same time
     private static final boolean SUPPORTED = hasMethod(Player.class, "setPlayerListHeader", String.class);
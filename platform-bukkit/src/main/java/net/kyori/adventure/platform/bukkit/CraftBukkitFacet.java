@@ -24,7 +24,11 @@
 package net.kyori.adventure.platform.bukkit;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -37,16 +41,26 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.nbt.BinaryTag;
 import net.kyori.adventure.nbt.BinaryTagIO;
 import net.kyori.adventure.nbt.BinaryTagTypes;
+import net.kyori.adventure.nbt.ByteBinaryTag;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.kyori.adventure.nbt.ListBinaryTag;
 import net.kyori.adventure.nbt.StringBinaryTag;
@@ -64,19 +78,18 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Wither;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static java.lang.invoke.MethodHandles.dropArguments;
+import static java.lang.invoke.MethodHandles.filterArguments;
+import static java.lang.invoke.MethodHandles.filterReturnValue;
 import static java.lang.invoke.MethodType.methodType;
+import static net.kyori.adventure.platform.facet.Knob.getInteger;
 import static net.kyori.adventure.platform.facet.Knob.isEnabled;
 import static net.kyori.adventure.platform.facet.Knob.logError;
 import static net.kyori.adventure.text.serializer.craftbukkit.BukkitComponentSerializer.gson;
@@ -90,6 +103,7 @@ import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflectio
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findNmsClass;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findSetterOf;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findStaticMethod;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.first;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.lookup;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.needField;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.needNmsClass;
@@ -105,41 +119,331 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
   }
 
   static final @Nullable Class<? extends Player> CLASS_CRAFT_PLAYER = findCraftClass("entity.CraftPlayer", Player.class);
-  private static final @Nullable MethodHandle CRAFT_PLAYER_GET_HANDLE;
-  private static final @Nullable MethodHandle ENTITY_PLAYER_GET_CONNECTION;
-  private static final @Nullable MethodHandle PLAYER_CONNECTION_SEND_PACKET;
+  // Fused and adapted handles, so each can be called with invokeExact
+  private static final @Nullable MethodHandle PLAYER_GET_CONNECTION; // (Player) -> PlayerConnection
+  private static final @Nullable MethodHandle CONNECTION_SEND_PACKET; // (PlayerConnection, Packet) -> void
+  private static final @Nullable MethodHandle PLAYER_SEND_PACKET; // (Player, Packet) -> void
+  private static final Map<UUID, Object> CONNECTIONS = new ConcurrentHashMap<>();
 
   static {
     final Class<?> craftPlayerClass = findCraftClass("entity.CraftPlayer");
     final Class<?> packetClass = findNmsClass("Packet");
 
-    MethodHandle craftPlayerGetHandle = null;
-    MethodHandle entityPlayerGetConnection = null;
-    MethodHandle playerConnectionSendPacket = null;
+    MethodHandle playerGetConnection = null;
+    MethodHandle connectionSendPacket = null;
+    MethodHandle playerSendPacket = null;
     if(craftPlayerClass != null && packetClass != null) {
       try {
         final Method getHandleMethod = craftPlayerClass.getMethod("getHandle");
         final Class<?> entityPlayerClass = getHandleMethod.getReturnType();
-        craftPlayerGetHandle = lookup().unreflect(getHandleMethod);
+        final MethodHandle craftPlayerGetHandle = lookup().unreflect(getHandleMethod);
         final Field playerConnectionField = entityPlayerClass.getField("playerConnection");
-        entityPlayerGetConnection = lookup().unreflectGetter(playerConnectionField);
+        final MethodHandle entityPlayerGetConnection = lookup().unreflectGetter(playerConnectionField);
         final Class<?> playerConnectionClass = playerConnectionField.getType();
-        playerConnectionSendPacket = lookup().findVirtual(playerConnectionClass, "sendPacket", methodType(void.class, packetClass));
+        final MethodHandle playerConnectionSendPacket = lookup().findVirtual(playerConnectionClass, "sendPacket", methodType(void.class, packetClass));
+
+        final MethodHandle getConnection = filterReturnValue(craftPlayerGetHandle, entityPlayerGetConnection);
+        playerGetConnection = getConnection.asType(methodType(Object.class, Player.class));
+        connectionSendPacket = playerConnectionSendPacket.asType(methodType(void.class, Object.class, Object.class));
+        playerSendPacket = filterArguments(playerConnectionSendPacket, 0, getConnection).asType(methodType(void.class, Player.class, Object.class));
       } catch(final Throwable error) {
         logError(error, "Failed to initialize CraftBukkit sendPacket");
       }
     }
 
-    CRAFT_PLAYER_GET_HANDLE = craftPlayerGetHandle;
-    ENTITY_PLAYER_GET_CONNECTION = entityPlayerGetConnection;
-    PLAYER_CONNECTION_SEND_PACKET = playerConnectionSendPacket;
+    PLAYER_GET_CONNECTION = playerGetConnection;
+    CONNECTION_SEND_PACKET = connectionSendPacket;
+    PLAYER_SEND_PACKET = playerSendPacket;
   }
 
   private static final boolean SUPPORTED = isEnabled("craftbukkit", true)
     && MinecraftComponentSerializer.isSupported()
-    && CRAFT_PLAYER_GET_HANDLE != null && ENTITY_PLAYER_GET_CONNECTION != null && PLAYER_CONNECTION_SEND_PACKET != null;
+    && PLAYER_GET_CONNECTION != null && CONNECTION_SEND_PACKET != null && PLAYER_SEND_PACKET != null;
+
+  /**
+   * Caches the connection of a player.
+   *
+   * @param player a player
+   */
+  static void addConnection(final @NonNull Player player) {
+    if(!SUPPORTED || !CLASS_CRAFT_PLAYER.isInstance(player)) return;
+
+    try {
+      CONNECTIONS.put(player.getUniqueId(), (Object) PLAYER_GET_CONNECTION.invokeExact(player));
+    } catch(final Throwable error) {
+      logError(error, "Failed to get CraftBukkit connection: %s", player);
+    }
+  }
+
+  /**
+   * Removes the cached connection of a player.
+   *
+   * @param player a player
+   */
+  static void removeConnection(final @NonNull Player player) {
+    CONNECTIONS.remove(player.getUniqueId());
+  }
+
+  private static final @Nullable MethodHandle CONNECTION_GET_NETWORK_MANAGER = findFieldOfType(findNmsClass("PlayerConnection"), findNmsClass("NetworkManager"));
+  private static final @Nullable MethodHandle NETWORK_MANAGER_GET_CHANNEL = findFieldOfType(findNmsClass("NetworkManager"), Channel.class);
+  private static final @Nullable MethodHandle NETWORK_MANAGER_GET_QUEUE = findFieldOfType(findNmsClass("NetworkManager"), Queue.class);
+  private static final boolean CHANNELS_SUPPORTED = SUPPORTED && CONNECTION_GET_NETWORK_MANAGER != null && NETWORK_MANAGER_GET_CHANNEL != null;
+  private static final boolean FLUSH_PER_TICK = CHANNELS_SUPPORTED && NETWORK_MANAGER_GET_QUEUE != null && isEnabled("craftbukkit.flushPerTick", false);
+  private static final Set<Channel> UNFLUSHED = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Gets whether packets are flushed once per tick, instead of after each packet.
+   *
+   * <p>Packets are written directly to the channel of a player, which keeps them in order with packets
+   * sent by the server, since both are written on the event loop of the channel. Packets are still sent through
+   * the connection while it has queued packets of its own, or when the connection would drop them.</p>
+   *
+   * <p>Packets sent by ViaVersion facets are always flushed, since ViaVersion can only send and flush together.</p>
+   *
+   * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.craftbukkit.flushPerTick=true}, to enable it.</p>
+   *
+   * @return if packets are flushed once per tick
+   */
+  static boolean isFlushPerTick() {
+    return FLUSH_PER_TICK;
+  }
+
+  /**
+   * Flushes every channel that was written to since the last flush.
+   */
+  static void flushChannels() {
+    if(UNFLUSHED.isEmpty()) return;
+
+    final Iterator<Channel> iterator = UNFLUSHED.iterator();
+    while(iterator.hasNext()) {
+      final Channel channel = iterator.next();
+      iterator.remove();
+      channel.flush();
+    }
+  }
+
+  private static void flush(final @NonNull Channel channel) {
+    if(FLUSH_PER_TICK) {
+      UNFLUSHED.add(channel);
+    } else {
+      channel.flush();
+    }
+  }
+
+  private static @Nullable Channel findChannel(final @NonNull Player player) throws Throwable {
+    final Object connection = findConnection(player);
+    if(connection == null) return null;
+
+    final Channel channel = (Channel) NETWORK_MANAGER_GET_CHANNEL.invoke(CONNECTION_GET_NETWORK_MANAGER.invoke(connection));
+    return channel == null || !channel.isOpen() ? null : channel;
+  }
+
+  private static @Nullable Channel findIdleChannel(final @NonNull Player player) throws Throwable {
+    final Object connection = findConnection(player);
+    if(connection == null) return null;
+
+    final Object networkManager = CONNECTION_GET_NETWORK_MANAGER.invoke(connection);
+    // Packets queued by the connection are sent before new packets, so they must not be overtaken
+    final Queue<?> queue = (Queue<?>) NETWORK_MANAGER_GET_QUEUE.invoke(networkManager);
+    if(queue == null || !queue.isEmpty()) return null;
+
+    final Channel channel = (Channel) NETWORK_MANAGER_GET_CHANNEL.invoke(networkManager);
+    return channel == null || !channel.isOpen() ? null : channel;
+  }
+
+  private static @Nullable MethodHandle findFieldOfType(final @Nullable Class<?> holderClass, final @Nullable Class<?> type) {
+    if(holderClass == null || type == null) return null;
+
+    for(final Field field : holderClass.getDeclaredFields()) {
+      if(Modifier.isStatic(field.getModifiers()) || !type.isAssignableFrom(field.getType())) continue;
+
+      try {
+        field.setAccessible(true);
+        return lookup().unreflectGetter(field);
+      } catch(final Throwable error) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  private static @Nullable Object findConnection(final @NonNull Player player) throws Throwable {
+    final Object connection = CONNECTIONS.get(player.getUniqueId());
+    if(connection != null) return connection;
+
+    // Connections are only cached on join, so a send after quitting cannot cache a connection again
+    return (Object) PLAYER_GET_CONNECTION.invokeExact(player);
+  }
+
+  private static final @Nullable Class<?> CLASS_CHAT_PACKET = findNmsClass("PacketPlayOutChat");
+  private static final @Nullable MethodHandle CONNECTION_GET_PLAYER = findFieldOfType(findNmsClass("PlayerConnection"), findNmsClass("EntityPlayer"));
+  private static final @Nullable MethodHandle PLAYER_GET_CHAT_VISIBILITY; // (EntityPlayer) -> EnumChatVisibility
+
+  static {
+    Class<?> chatVisibilityClass = findNmsClass("EnumChatVisibility");
+    if(chatVisibilityClass == null) { // Nested before 1.14
+      chatVisibilityClass = findNmsClass("EntityHuman$EnumChatVisibility");
+    }
+    PLAYER_GET_CHAT_VISIBILITY = findFieldOfType(findNmsClass("EntityPlayer"), chatVisibilityClass);
+  }
+
+  /**
+   * Gets whether packets can be written directly to the channel of a player.
+   *
+   * <p>The connection of a player drops chat packets when the player has hidden chat, so chat packets
+   * are only written directly to players who show all chat.</p>
+   *
+   * @param player a player
+   * @param packets a list of packets
+   * @return if the packets would be sent unchanged by the connection
+   */
+  private static boolean isUnfiltered(final @NonNull Player player, final @NonNull List<?> packets) {
+    boolean chat = false;
+    for(final Object packet : packets) {
+      chat |= CLASS_CHAT_PACKET == null || CLASS_CHAT_PACKET.isInstance(packet);
+    }
+    if(!chat) return true;
+    if(CONNECTION_GET_PLAYER == null || PLAYER_GET_CHAT_VISIBILITY == null) return false;
+
+    try {
+      final Object connection = findConnection(player);
+      if(connection == null) return false;
+
+      final Object visibility = PLAYER_GET_CHAT_VISIBILITY.invoke(CONNECTION_GET_PLAYER.invoke(connection));
+      return visibility instanceof Enum<?> && ((Enum<?>) visibility).ordinal() == 0; // FULL
+    } catch(final Throwable error) {
+      logError(error, "Failed to get chat visibility: %s", player);
+      return false;
+    }
+  }
+
+  /**
+   * Sends packets to many players, encoding each packet only once.
+   *
+   * <p>Encoded packets are written to each channel after the packet encoder, so compression and encryption
+   * still apply per connection. Packet listeners on the encoder are skipped, so this is disabled by default.</p>
+   *
+   * <p>Chat packets are only written directly to players who show all chat, other players are sent packets
+   * through their connection so hidden chat is still dropped.</p>
+   *
+   * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.craftbukkit.broadcast=true}, to enable it.</p>
+   */
+  static final class PacketBroadcast {
+    private static final String ENCODER = "encoder";
+    private static final boolean ENABLED = isEnabled("craftbukkit.broadcast", false);
+    private static final @Nullable MethodHandle ENCODER_ENCODE; // (MessageToByteEncoder, ChannelHandlerContext, Object, ByteBuf) -> void
+
+    static {
+      MethodHandle encoderEncode = null;
+      try {
+        final Method encode = MessageToByteEncoder.class.getDeclaredMethod("encode", ChannelHandlerContext.class, Object.class, ByteBuf.class);
+        encode.setAccessible(true);
+        encoderEncode = lookup().unreflect(encode);
+      } catch(final Throwable error) {
+        logError(error, "Failed to initialize packet encoder");
+      }
+      ENCODER_ENCODE = encoderEncode;
+    }
+
+    private static final boolean SUPPORTED = ENABLED && CHANNELS_SUPPORTED && ENCODER_ENCODE != null;
+
+    private PacketBroadcast() {
+    }
+
+    /**
+     * Sends packets to players.
+     *
+     * @param facet a facet, used for players that cannot receive encoded packets
+     * @param players a collection of players
+     * @param packets a list of packets
+     * @return if the packets were sent, otherwise they must be sent individually
+     */
+    static boolean sendPackets(final @NonNull PacketFacet<?> facet, final @NonNull Collection<? extends Player> players, final @NonNull List<?> packets) {
+      if(!SUPPORTED) return false;
+
+      final Map<Player, ChannelHandlerContext> contexts = new LinkedHashMap<>(players.size());
+      final List<Player> others = new ArrayList<>();
+      Class<?> encoderClass = null;
+      for(final Player player : players) {
+        final ChannelHandlerContext context = isUnfiltered(player, packets) ? findEncoder(player) : null;
+        // Encoders replaced by other plugins, such as ViaVersion, may depend on the connection
+        if(context != null && (encoderClass == null || context.handler().getClass() == encoderClass)) {
+          encoderClass = context.handler().getClass();
+          contexts.put(player, context);
+        } else {
+          others.add(player);
+        }
+      }
+      if(contexts.size() < 2) return false;
+
+      final List<ByteBuf> buffers = new ArrayList<>(packets.size());
+      try {
+        final ChannelHandlerContext reference = contexts.values().iterator().next();
+        for(final Object packet : packets) {
+          final ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer();
+          buffers.add(buffer);
+          ENCODER_ENCODE.invoke(reference.handler(), reference, packet, buffer);
+        }
+      } catch(final Throwable error) {
+        logError(error, "Failed to encode broadcast packets: %s", packets);
+        release(buffers);
+        return false; // Nothing was written, so every player can be sent packets individually
+      }
+
+      try {
+        for(final Map.Entry<Player, ChannelHandlerContext> entry : contexts.entrySet()) {
+          final ChannelHandlerContext context = entry.getValue();
+          int written = 0;
+          try {
+            for(final ByteBuf buffer : buffers) {
+              context.write(buffer.duplicate().retain());
+              written++;
+            }
+            flush(context.channel());
+          } catch(final Throwable error) {
+            logError(error, "Failed to write broadcast packets: %s", entry.getKey());
+            // Only the packets after the failed write are sent again, so none are duplicated
+            for(final Object packet : packets.subList(written, packets.size())) {
+              facet.sendPacket(entry.getKey(), packet);
+            }
+          }
+        }
+      } finally {
+        release(buffers);
+      }
+
+      for(final Player player : others) {
+        for(final Object packet : packets) {
+          facet.sendPacket(player, packet);
+        }
+      }
+      return true;
+    }
+
+    private static void release(final @NonNull List<ByteBuf> buffers) {
+      for(final ByteBuf buffer : buffers) {
+        buffer.release();
+      }
+    }
+
+    private static @Nullable ChannelHandlerContext findEncoder(final @NonNull Player player) {
+      try {
+        final Channel channel = findChannel(player);
+        if(channel == null) return null;
+
+        final ChannelHandlerContext context = channel.pipeline().context(ENCODER);
+        return context != null && context.handler() instanceof MessageToByteEncoder ? context : null;
+      } catch(final Throwable error) {
+        logError(error, "Failed to find packet encoder: %s", player);
+        return null;
+      }
+    }
+  }
 
   static class PacketFacet<V extends CommandSender> extends CraftBukkitFacet<V> implements Facet.Message<V, Object> {
+    // Components are mutable before 1.16, their styles are lazily created and their siblings are re-parented
+    private static final boolean IMMUTABLE_COMPONENTS = findNmsClass("ChatHexColor") != null;
+
     @SuppressWarnings("unchecked")
     protected PacketFacet() {
       super((Class<V>) CLASS_CRAFT_PLAYER);
@@ -149,16 +453,49 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       if(packet == null) return;
 
       try {
-        PLAYER_CONNECTION_SEND_PACKET.invoke(ENTITY_PLAYER_GET_CONNECTION.invoke(CRAFT_PLAYER_GET_HANDLE.invoke(player)), packet);
+        if(FLUSH_PER_TICK && isUnfiltered(player, Collections.singletonList(packet))) {
+          final Channel channel = findIdleChannel(player);
+          if(channel != null) {
+            // Writes from other threads are queued on the event loop, after packets already sent by the connection
+            channel.write(packet);
+            UNFLUSHED.add(channel);
+            return;
+          }
+        }
+
+        final Object connection = findConnection(player);
+        if(connection != null) {
+          CONNECTION_SEND_PACKET.invokeExact(connection, packet);
+        } else {
+          PLAYER_SEND_PACKET.invokeExact(player, packet);
+        }
       } catch(final Throwable error) {
         logError(error, "Failed to invoke CraftBukkit sendPacket: %s", packet);
       }
     }
 
+    public void sendPacket(final @NonNull Collection<? extends Player> players, final @NonNull List<?> packets) {
+      if(packets.isEmpty()) return;
+
+      if(players.size() < 2 || !PacketBroadcast.sendPackets(this, players, packets)) {
+        for(final Player player : players) {
+          for(final Object packet : packets) {
+            this.sendPacket(player, packet);
+          }
+        }
+      }
+    }
+
     public void sendMessage(final @NonNull V player, final @Nullable Object packet) {
       this.sendPacket((Player) player, packet);
     }
 
+    @SuppressWarnings("unchecked")
+    public void sendMessage(final @NonNull Collection<? extends V> players, final @Nullable Object packet) {
+      if(packet == null) return;
+      this.sendPacket((Collection<? extends Player>) players, Collections.singletonList(packet));
+    }
+
     @Nullable
     @Override
     public Object createMessage(final @NonNull V viewer, final @NonNull Component message) {
@@ -169,6 +506,11 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
         return null;
       }
     }
+
+    @Override
+    public boolean isMessageCacheable() {
+      return IMMUTABLE_COMPONENTS; // Subclasses that create packets must not be cached, packets may be modified when sent
+    }
   }
 
   private static final @Nullable Class<?> CLASS_CHAT_COMPONENT = findNmsClass("IChatBaseComponent");
@@ -225,6 +567,16 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
         logError(error, "Failed to invoke PacketPlayOutChat constructor: %s %s", message, messageType);
       }
     }
+
+    @Override
+    public void sendMessage(final @NonNull Collection<? extends CommandSender> viewers, final @NonNull Identity source, final @NonNull Object message, final @NonNull MessageType type) {
+      final Object messageType = type == MessageType.CHAT ? MESSAGE_TYPE_CHAT : MESSAGE_TYPE_SYSTEM;
+      try {
+        this.sendMessage(viewers, CHAT_PACKET_CONSTRUCTOR.invoke(message, messageType, source.uuid()));
+      } catch(final Throwable error) {
+        logError(error, "Failed to invoke PacketPlayOutChat constructor: %s %s", message, messageType);
+      }
+    }
   }
 
   private static final @Nullable Class<?> CLASS_TITLE_PACKET = findNmsClass("PacketPlayOutTitle");
@@ -253,6 +605,11 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
         return null;
       }
     }
+
+    @Override
+    public boolean isMessageCacheable() {
+      return false;
+    }
   }
 
   static class ActionBarLegacy extends PacketFacet<Player> implements Facet.ActionBar<Player, Object> {
@@ -273,6 +630,11 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
         return null;
       }
     }
+
+    @Override
+    public boolean isMessageCacheable() {
+      return false;
+    }
   }
 
   static class Title extends PacketFacet<Player> implements Facet.Title<Player, Object, List<?>> {
@@ -308,6 +670,11 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       }
     }
 
+    @Override
+    public void showTitle(final @NonNull Collection<? extends Player> viewers, final @NonNull List<?> packets) {
+      this.sendPacket(viewers, packets);
+    }
+
     @Override
     public void clearTitle(final @NonNull Player viewer) {
       try {
@@ -355,10 +722,32 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       return gson().serialize(message);
     }
 
+    @Override
+    public boolean isMessageCacheable() {
+      return true;
+    }
+
     @NonNull
     @Override
     public ItemStack createBook(final @NonNull Object title, final @NonNull Object author, final @NonNull Iterable<Object> pages) {
-      return this.applyTag(BOOK_STACK, tagFor(title, author, pages));
+      if(BOOK_CACHE_SIZE <= 0) {
+        return this.applyTag(BOOK_STACK, tagFor(title, author, pages));
+      }
+
+      // Pages are already rendered for the viewer's locale, so the content alone identifies a book
+      final List<Object> pageList = new ArrayList<>();
+      for(final Object page : pages) {
+        pageList.add(page);
+      }
+      final List<Object> key = Arrays.asList(title, author, pageList);
+      ItemStack book = BOOKS.get(key);
+      if(book == null) {
+        book = this.applyTag(BOOK_STACK, tagFor(title, author, pageList));
+        if(book != BOOK_STACK) {
+          BOOKS.put(key, book);
+        }
+      }
+      return book;
     }
 
     @Deprecated
@@ -422,6 +811,75 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       NBT_IO_DESERIALIZE = nbtIoDeserialize;
     }
 
+    // Books are opened by setting the item in hand, which copies the stack, so a cached stack is never changed
+    private static final int BOOK_CACHE_SIZE = getInteger("bookCacheSize", 32);
+    private static final Map<List<Object>, ItemStack> BOOKS = Collections.synchronizedMap(new LinkedHashMap<List<Object>, ItemStack>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<List<Object>, ItemStack> eldest) {
+        return this.size() > BOOK_CACHE_SIZE;
+      }
+    });
+
+    private static final Class<?> CLASS_NBT_BASE = findNmsClass("NBTBase");
+    private static final Class<?> CLASS_NBT_TAG_LIST = findNmsClass("NBTTagList");
+    private static final Class<?> CLASS_NBT_TAG_STRING = findNmsClass("NBTTagString");
+    private static final MethodHandle NEW_NBT_TAG_COMPOUND = findConstructor(CLASS_NBT_TAG_COMPOUND);
+    private static final MethodHandle NEW_NBT_TAG_LIST = findConstructor(CLASS_NBT_TAG_LIST);
+    private static final MethodHandle NEW_NBT_TAG_STRING = first(
+      findConstructor(CLASS_NBT_TAG_STRING, String.class),
+      findStaticMethod(CLASS_NBT_TAG_STRING, "a", CLASS_NBT_TAG_STRING, String.class) // 1.15+
+    );
+    private static final MethodHandle NBT_TAG_COMPOUND_SET = first(
+      findMethod(CLASS_NBT_TAG_COMPOUND, "set", CLASS_NBT_BASE, String.class, CLASS_NBT_BASE), // 1.14+
+      findMethod(CLASS_NBT_TAG_COMPOUND, "set", void.class, String.class, CLASS_NBT_BASE)
+    );
+    private static final MethodHandle NBT_TAG_COMPOUND_SET_STRING = findMethod(CLASS_NBT_TAG_COMPOUND, "setString", void.class, String.class, String.class);
+    private static final MethodHandle NBT_TAG_COMPOUND_SET_BYTE = findMethod(CLASS_NBT_TAG_COMPOUND, "setByte", void.class, String.class, byte.class);
+    private static final MethodHandle NBT_TAG_LIST_ADD = CLASS_NBT_TAG_LIST != null && List.class.isAssignableFrom(CLASS_NBT_TAG_LIST)
+      ? findMethod(List.class, "add", boolean.class, Object.class) // 1.14+, lists are collections
+      : findMethod(CLASS_NBT_TAG_LIST, "add", void.class, CLASS_NBT_BASE);
+
+    private static final boolean NBT_BRIDGE_SUPPORTED = NEW_NBT_TAG_COMPOUND != null && NEW_NBT_TAG_LIST != null && NEW_NBT_TAG_STRING != null
+      && NBT_TAG_COMPOUND_SET != null && NBT_TAG_COMPOUND_SET_STRING != null && NBT_TAG_COMPOUND_SET_BYTE != null && NBT_TAG_LIST_ADD != null;
+
+    /**
+     * Converts a tag to a {@code NBTBase} without serializing it.
+     *
+     * @param tag a tag
+     * @return a {@code NBTBase}, or {@code null} if the tag has types that are not bridged
+     * @throws Throwable if a handle fails
+     */
+    private static @Nullable Object bridgeTag(final @NonNull BinaryTag tag) throws Throwable {
+      if(tag instanceof StringBinaryTag) {
+        return NEW_NBT_TAG_STRING.invoke(((StringBinaryTag) tag).value());
+      } else if(tag instanceof ListBinaryTag) {
+        final Object list = NEW_NBT_TAG_LIST.invoke();
+        for(final BinaryTag element : (ListBinaryTag) tag) {
+          final Object nmsElement = bridgeTag(element);
+          if(nmsElement == null) return null;
+          NBT_TAG_LIST_ADD.invoke(list, nmsElement);
+        }
+        return list;
+      } else if(tag instanceof CompoundBinaryTag) {
+        final CompoundBinaryTag compoundTag = (CompoundBinaryTag) tag;
+        final Object compound = NEW_NBT_TAG_COMPOUND.invoke();
+        for(final String key : compoundTag.keySet()) {
+          final BinaryTag value = compoundTag.get(key);
+          if(value instanceof StringBinaryTag) {
+            NBT_TAG_COMPOUND_SET_STRING.invoke(compound, key, ((StringBinaryTag) value).value());
+          } else if(value instanceof ByteBinaryTag) {
+            NBT_TAG_COMPOUND_SET_BYTE.invoke(compound, key, ((ByteBinaryTag) value).value());
+          } else {
+            final Object nmsValue = value == null ? null : bridgeTag(value);
+            if(nmsValue == null) return null;
+            NBT_TAG_COMPOUND_SET.invoke(compound, key, nmsValue);
+          }
+        }
+        return compound;
+      }
+      return null;
+    }
+
     private static final class TrustedByteArrayOutputStream extends ByteArrayOutputStream {
       public InputStream toInputStream() {
         return new ByteArrayInputStream(this.buf, 0, this.count);
@@ -429,6 +887,15 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     }
 
     private @NonNull Object createTag(final @NonNull CompoundBinaryTag tag) throws IOException {
+      if(NBT_BRIDGE_SUPPORTED) {
+        try {
+          final Object bridged = bridgeTag(tag);
+          if(bridged != null) return bridged;
+        } catch(final Throwable error) {
+          logError(error, "Failed to bridge NBT tag, falling back to serialization: %s", tag);
+        }
+      }
+
       final TrustedByteArrayOutputStream output = new TrustedByteArrayOutputStream();
       BinaryTagIO.writer().write(tag, output);
 
@@ -608,7 +1075,98 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     }
   }
 
-  static class FakeEntity<E extends Entity> extends PacketFacet<Player> implements Facet.FakeEntity<Player, Location>, Listener {
+  /**
+   * Moves fake entities with their viewers, once per interval for every fake entity of a plugin.
+   *
+   * <p>An entity is only teleported for a viewer when it would move or turn past a threshold.</p>
+   *
+   * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.craftbukkit.fakeEntityInterval=<ticks>}, to change the interval.</p>
+   */
+  static final class FakeEntityTracker implements Runnable {
+    private static final int INTERVAL = Math.max(1, getInteger("craftbukkit.fakeEntityInterval", 1));
+    private static final double MOVE_THRESHOLD_SQUARED = 0.5 * 0.5;
+    private static final float TURN_THRESHOLD = 2f;
+    private static final Map<Plugin, FakeEntityTracker> TRACKERS = new ConcurrentHashMap<>();
+
+    private final Plugin plugin;
+    private final Set<FakeEntity<?>> entities;
+    private @Nullable BukkitTask task;
+
+    private FakeEntityTracker(final @NonNull Plugin plugin) {
+      this.plugin = plugin;
+      this.entities = new CopyOnWriteArraySet<>();
+    }
+
+    static void track(final @NonNull Plugin plugin, final @NonNull FakeEntity<?> entity) {
+      TRACKERS.compute(plugin, (key, tracker) -> {
+        final FakeEntityTracker result = tracker == null ? new FakeEntityTracker(key) : tracker;
+        result.add(entity);
+        return result;
+      });
+    }
+
+    static void untrack(final @NonNull Plugin plugin, final @NonNull FakeEntity<?> entity) {
+      // Empty trackers are removed, so plugins are not kept after their last entity
+      TRACKERS.computeIfPresent(plugin, (key, tracker) -> tracker.remove(entity) ? null : tracker);
+    }
+
+    /**
+     * Stops tracking every fake entity of a plugin, such as when it is disabled.
+     *
+     * @param plugin a plugin
+     */
+    static void untrackAll(final @NonNull Plugin plugin) {
+      final FakeEntityTracker tracker = TRACKERS.remove(plugin);
+      if(tracker != null) {
+        tracker.entities.clear();
+        tracker.cancel();
+      }
+    }
+
+    private void add(final @NonNull FakeEntity<?> entity) {
+      this.entities.add(entity);
+      // Bukkit cancels the task when the plugin is disabled, so it is scheduled again if the plugin is enabled again
+      if((this.task == null || !this.plugin.getServer().getScheduler().isQueued(this.task.getTaskId())) && this.plugin.isEnabled()) {
+        this.task = this.plugin.getServer().getScheduler().runTaskTimer(this.plugin, this, INTERVAL, INTERVAL);
+      }
+    }
+
+    private boolean remove(final @NonNull FakeEntity<?> entity) {
+      this.entities.remove(entity);
+      if(!this.entities.isEmpty()) return false;
+
+      this.cancel();
+      return true;
+    }
+
+    private void cancel() {
+      if(this.task != null) {
+        this.task.cancel();
+        this.task = null;
+      }
+    }
+
+    @Override
+    public void run() {
+      for(final FakeEntity<?> entity : this.entities) {
+        for(final Map.Entry<Player, Location> viewer : entity.positions.entrySet()) {
+          final Location position = entity.createPosition(viewer.getKey());
+          if(hasMoved(viewer.getValue(), position)) {
+            entity.teleport(viewer.getKey(), position);
+          }
+        }
+      }
+    }
+
+    private static boolean hasMoved(final @NonNull Location from, final @NonNull Location to) {
+      return from.getWorld() != to.getWorld()
+        || from.distanceSquared(to) > MOVE_THRESHOLD_SQUARED
+        || Math.abs(from.getYaw() - to.getYaw()) > TURN_THRESHOLD
+        || Math.abs(from.getPitch() - to.getPitch()) > TURN_THRESHOLD;
+    }
+  }
+
+  static class FakeEntity<E extends Entity> extends PacketFacet<Player> implements Facet.FakeEntity<Player, Location> {
     private static final Class<? extends World> CLASS_CRAFT_WORLD = findCraftClass("CraftWorld", World.class);
     private static final Class<?> CLASS_NMS_ENTITY = findNmsClass("Entity");
     private static final Class<?> CLASS_NMS_LIVING_ENTITY = findNmsClass("EntityLiving");
@@ -641,8 +1199,10 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     private static final boolean SUPPORTED = (CRAFT_WORLD_CREATE_ENTITY != null || (NEW_ENTITY_WITHER != null && CRAFT_WORLD_GET_HANDLE != null))
       && CRAFT_ENTITY_GET_HANDLE != null && NMS_ENTITY_GET_BUKKIT_ENTITY != null && NMS_ENTITY_GET_DATA_WATCHER != null;
 
+    private final Plugin plugin;
     private final E entity;
     private final Object entityHandle;
+    private final Map<Player, Location> positions;
     protected final Set<Player> viewers;
 
     protected FakeEntity(final @NonNull Class<E> entityClass, final @NonNull Location location) {
@@ -671,12 +1231,14 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
         }
       }
 
+      this.plugin = plugin;
       this.entity = entity;
       this.entityHandle = handle;
-      this.viewers = new HashSet<>();
+      this.positions = new ConcurrentHashMap<>();
+      this.viewers = this.positions.keySet();
 
       if(this.isSupported()) {
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        FakeEntityTracker.track(plugin, this);
       }
     }
 
@@ -685,14 +1247,6 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       return super.isSupported() && this.entity != null && this.entityHandle != null;
     }
 
-    @EventHandler(ignoreCancelled = false, priority = EventPriority.MONITOR)
-    public void onPlayerMove(final PlayerMoveEvent event) {
-      final Player viewer = event.getPlayer();
-      if(this.viewers.contains(viewer)) {
-        this.teleport(viewer, this.createPosition(viewer));
-      }
-    }
-
     public @Nullable Object createSpawnPacket() {
       // Later versions of MC add a createSpawnPacket()Packet method on Entity -- for broader support that could be used.
       // For 1.8 and 1.7 at least, we are stuck with this.
@@ -755,14 +1309,13 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
     @Override
     public void teleport(final @NonNull Player viewer, final @Nullable Location position) {
       if(position == null) {
-        this.viewers.remove(viewer);
+        this.positions.remove(viewer);
         this.sendPacket(viewer, this.createDespawnPacket());
         return;
       }
 
-      if(!this.viewers.contains(viewer)) {
+      if(this.positions.put(viewer, position) == null) {
         this.sendPacket(viewer, this.createSpawnPacket());
-        this.viewers.add(viewer);
       }
 
       try {
@@ -816,7 +1369,7 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
 
     @Override
     public void close() {
-      HandlerList.unregisterAll(this);
+      FakeEntityTracker.untrack(this.plugin, this);
       for(final Player viewer : new LinkedList<>(this.viewers)) {
         this.teleport(viewer, null);
       }
@@ -883,16 +1436,6 @@ class CraftBukkitFacet<V extends CommandSender> extends FacetBase<V> {
       findSetterOf(findField(CLIENTBOUND_TAB_LIST_PACKET, "b", CLASS_CHAT_COMPONENT))
     );
 
-    private static MethodHandle first(final MethodHandle... handles) {
-      for(int i = 0; i < handles.length; i++) {
-        final MethodHandle handle = handles[i];
-        if(handle != null) {
-          return handle;
-        }
-      }
-      return null;
-    }
-
     @Override
     public boolean isSupported() {
       return CLIENTBOUND_TAB_LIST_PACKET_CTOR != null && CLIENTBOUND_TAB_LIST_PACKET_SET_HEADER != null && CLIENTBOUND_TAB_LIST_PACKET_SET_FOOTER != null && super.isSupported();
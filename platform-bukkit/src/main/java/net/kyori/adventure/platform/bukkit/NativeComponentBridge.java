@@ -0,0 +1,262 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.bukkit;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static net.kyori.adventure.platform.facet.Knob.logError;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findClass;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findEnum;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findMethod;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findStaticMethod;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.first;
+
+/**
+ * Converts {@link Component}s to the native components of a server, such as Paper, without JSON.
+ *
+ * <p>Native classes are named at runtime, so they are not relocated with the rest of adventure.</p>
+ *
+ * <p>Text and translatable components are converted with their colors, decorations, click and text hover events,
+ * insertions and fonts. Anything else returns {@code null}, so the JSON path can be used instead.</p>
+ */
+final class NativeComponentBridge {
+  private NativeComponentBridge() {
+  }
+
+  private static final Class<?> NATIVE_COMPONENT_CLASS = findNativeClass("text", "Component");
+  private static final Class<?> NATIVE_TEXT_COMPONENT_CLASS = findNativeClass("text", "TextComponent");
+  private static final Class<?> NATIVE_TRANSLATABLE_COMPONENT_CLASS = findNativeClass("text", "TranslatableComponent");
+  private static final Class<?> NATIVE_STYLE_CLASS = findNativeClass("text", "format", "Style");
+  private static final Class<?> NATIVE_STYLE_BUILDER_CLASS = findNativeClass("text", "format", "Style$Builder");
+  private static final Class<?> NATIVE_TEXT_COLOR_CLASS = findNativeClass("text", "format", "TextColor");
+  private static final Class<?> NATIVE_NAMED_TEXT_COLOR_CLASS = findNativeClass("text", "format", "NamedTextColor");
+  private static final Class<?> NATIVE_TEXT_DECORATION_CLASS = findNativeClass("text", "format", "TextDecoration");
+  private static final Class<?> NATIVE_TEXT_DECORATION_STATE_CLASS = findNativeClass("text", "format", "TextDecoration$State");
+  private static final Class<?> NATIVE_CLICK_EVENT_CLASS = findNativeClass("text", "event", "ClickEvent");
+  private static final Class<?> NATIVE_CLICK_EVENT_ACTION_CLASS = findNativeClass("text", "event", "ClickEvent$Action");
+  private static final Class<?> NATIVE_HOVER_EVENT_CLASS = findNativeClass("text", "event", "HoverEvent");
+  private static final Class<?> NATIVE_HOVER_EVENT_SOURCE_CLASS = findNativeClass("text", "event", "HoverEventSource");
+  private static final Class<?> NATIVE_KEY_CLASS = findNativeClass("key", "Key");
+
+  private static final MethodHandle NATIVE_TEXT = findStaticMethod(NATIVE_COMPONENT_CLASS, "text", NATIVE_TEXT_COMPONENT_CLASS, String.class, NATIVE_STYLE_CLASS);
+  private static final MethodHandle NATIVE_TRANSLATABLE = findStaticMethod(NATIVE_COMPONENT_CLASS, "translatable", NATIVE_TRANSLATABLE_COMPONENT_CLASS, String.class, NATIVE_STYLE_CLASS, List.class);
+  private static final MethodHandle NATIVE_CHILDREN = findMethod(NATIVE_COMPONENT_CLASS, "children", NATIVE_COMPONENT_CLASS, List.class);
+  private static final MethodHandle NATIVE_STYLE_EMPTY = findStaticMethod(NATIVE_STYLE_CLASS, "empty", NATIVE_STYLE_CLASS);
+  private static final MethodHandle NATIVE_STYLE_BUILDER = first(
+    findStaticMethod(NATIVE_STYLE_CLASS, "style", NATIVE_STYLE_BUILDER_CLASS),
+    findStaticMethod(NATIVE_STYLE_CLASS, "builder", NATIVE_STYLE_BUILDER_CLASS)
+  );
+  private static final MethodHandle NATIVE_STYLE_BUILDER_COLOR = findMethod(NATIVE_STYLE_BUILDER_CLASS, "color", NATIVE_STYLE_BUILDER_CLASS, NATIVE_TEXT_COLOR_CLASS);
+  private static final MethodHandle NATIVE_STYLE_BUILDER_DECORATION = findMethod(NATIVE_STYLE_BUILDER_CLASS, "decoration", NATIVE_STYLE_BUILDER_CLASS, NATIVE_TEXT_DECORATION_CLASS, NATIVE_TEXT_DECORATION_STATE_CLASS);
+  private static final MethodHandle NATIVE_STYLE_BUILDER_CLICK_EVENT = findMethod(NATIVE_STYLE_BUILDER_CLASS, "clickEvent", NATIVE_STYLE_BUILDER_CLASS, NATIVE_CLICK_EVENT_CLASS);
+  private static final MethodHandle NATIVE_STYLE_BUILDER_HOVER_EVENT = first(
+    findMethod(NATIVE_STYLE_BUILDER_CLASS, "hoverEvent", NATIVE_STYLE_BUILDER_CLASS, NATIVE_HOVER_EVENT_SOURCE_CLASS), // Added adventure 4.2
+    findMethod(NATIVE_STYLE_BUILDER_CLASS, "hoverEvent", NATIVE_STYLE_BUILDER_CLASS, NATIVE_HOVER_EVENT_CLASS)
+  );
+  private static final MethodHandle NATIVE_STYLE_BUILDER_INSERTION = findMethod(NATIVE_STYLE_BUILDER_CLASS, "insertion", NATIVE_STYLE_BUILDER_CLASS, String.class);
+  private static final MethodHandle NATIVE_STYLE_BUILDER_FONT = findMethod(NATIVE_STYLE_BUILDER_CLASS, "font", NATIVE_STYLE_BUILDER_CLASS, NATIVE_KEY_CLASS);
+  private static final MethodHandle NATIVE_STYLE_BUILDER_BUILD = findMethod(NATIVE_STYLE_BUILDER_CLASS, "build", NATIVE_STYLE_CLASS);
+  private static final MethodHandle NATIVE_TEXT_COLOR = first(
+    findStaticMethod(NATIVE_TEXT_COLOR_CLASS, "color", NATIVE_TEXT_COLOR_CLASS, int.class),
+    findStaticMethod(NATIVE_TEXT_COLOR_CLASS, "of", NATIVE_TEXT_COLOR_CLASS, int.class)
+  );
+  private static final MethodHandle NATIVE_NAMED_TEXT_COLOR = findStaticMethod(NATIVE_NAMED_TEXT_COLOR_CLASS, "ofExact", NATIVE_NAMED_TEXT_COLOR_CLASS, int.class);
+  private static final MethodHandle NATIVE_CLICK_EVENT = first(
+    findStaticMethod(NATIVE_CLICK_EVENT_CLASS, "clickEvent", NATIVE_CLICK_EVENT_CLASS, NATIVE_CLICK_EVENT_ACTION_CLASS, String.class),
+    findStaticMethod(NATIVE_CLICK_EVENT_CLASS, "of", NATIVE_CLICK_EVENT_CLASS, NATIVE_CLICK_EVENT_ACTION_CLASS, String.class)
+  );
+  private static final MethodHandle NATIVE_SHOW_TEXT = findStaticMethod(NATIVE_HOVER_EVENT_CLASS, "showText", NATIVE_HOVER_EVENT_CLASS, NATIVE_COMPONENT_CLASS);
+  private static final MethodHandle NATIVE_KEY = first(
+    findStaticMethod(NATIVE_KEY_CLASS, "key", NATIVE_KEY_CLASS, String.class),
+    findStaticMethod(NATIVE_KEY_CLASS, "of", NATIVE_KEY_CLASS, String.class)
+  );
+
+  private static final Map<TextDecoration, Object> DECORATIONS = new EnumMap<>(TextDecoration.class);
+  private static final Map<TextDecoration.State, Object> DECORATION_STATES = new EnumMap<>(TextDecoration.State.class);
+  private static final Map<ClickEvent.Action, Object> CLICK_ACTIONS = new EnumMap<>(ClickEvent.Action.class);
+  private static final Object NATIVE_EMPTY_STYLE;
+
+  static {
+    for(final TextDecoration decoration : TextDecoration.values()) {
+      final Object value = findEnum(NATIVE_TEXT_DECORATION_CLASS, decoration.name());
+      if(value != null) DECORATIONS.put(decoration, value);
+    }
+    for(final TextDecoration.State state : TextDecoration.State.values()) {
+      final Object value = findEnum(NATIVE_TEXT_DECORATION_STATE_CLASS, state.name());
+      if(value != null) DECORATION_STATES.put(state, value);
+    }
+    for(final ClickEvent.Action action : ClickEvent.Action.values()) {
+      final Object value = findEnum(NATIVE_CLICK_EVENT_ACTION_CLASS, action.name());
+      if(value != null) CLICK_ACTIONS.put(action, value);
+    }
+
+    Object emptyStyle = null;
+    if(NATIVE_STYLE_EMPTY != null) {
+      try {
+        emptyStyle = NATIVE_STYLE_EMPTY.invoke();
+      } catch(final Throwable error) {
+        logError(error, "Failed to access native empty Style");
+      }
+    }
+    NATIVE_EMPTY_STYLE = emptyStyle;
+  }
+
+  private static final boolean SUPPORTED = NATIVE_TEXT != null && NATIVE_TRANSLATABLE != null && NATIVE_CHILDREN != null && NATIVE_EMPTY_STYLE != null
+    && NATIVE_STYLE_BUILDER != null && NATIVE_STYLE_BUILDER_COLOR != null && NATIVE_STYLE_BUILDER_DECORATION != null && NATIVE_STYLE_BUILDER_CLICK_EVENT != null
+    && NATIVE_STYLE_BUILDER_HOVER_EVENT != null && NATIVE_STYLE_BUILDER_INSERTION != null && NATIVE_STYLE_BUILDER_BUILD != null
+    && NATIVE_TEXT_COLOR != null && NATIVE_CLICK_EVENT != null && NATIVE_SHOW_TEXT != null
+    && DECORATIONS.size() == TextDecoration.values().length && DECORATION_STATES.size() == TextDecoration.State.values().length;
+
+  /**
+   * Gets whether native components can be created.
+   *
+   * @return if supported
+   */
+  static boolean isSupported() {
+    return SUPPORTED;
+  }
+
+  /**
+   * Converts a component to a native component.
+   *
+   * @param component a component
+   * @return a native component, or {@code null} if the component must be converted through JSON
+   */
+  static @Nullable Object toNative(final @NonNull Component component) {
+    if(!SUPPORTED) return null;
+
+    try {
+      return convert(component);
+    } catch(final Throwable error) {
+      logError(error, "Failed to create native Component: %s", component);
+      return null;
+    }
+  }
+
+  private static @Nullable Object convert(final @NonNull Component component) throws Throwable {
+    final Object style = convert(component.style());
+    if(style == null) return null;
+
+    Object output;
+    if(component instanceof TextComponent) {
+      output = NATIVE_TEXT.invoke(((TextComponent) component).content(), style);
+    } else if(component instanceof TranslatableComponent) {
+      final List<Object> args = convert(((TranslatableComponent) component).args());
+      if(args == null) return null;
+      output = NATIVE_TRANSLATABLE.invoke(((TranslatableComponent) component).key(), style, args);
+    } else {
+      return null;
+    }
+
+    if(!component.children().isEmpty()) {
+      final List<Object> children = convert(component.children());
+      if(children == null) return null;
+      output = NATIVE_CHILDREN.invoke(output, children);
+    }
+    return output;
+  }
+
+  private static @Nullable List<Object> convert(final @NonNull List<Component> components) throws Throwable {
+    if(components.isEmpty()) return Collections.emptyList();
+
+    final List<Object> output = new ArrayList<>(components.size());
+    for(final Component component : components) {
+      final Object converted = convert(component);
+      if(converted == null) return null;
+      output.add(converted);
+    }
+    return output;
+  }
+
+  private static @Nullable Object convert(final @NonNull Style style) throws Throwable {
+    if(style.isEmpty()) return NATIVE_EMPTY_STYLE;
+
+    final Object builder = NATIVE_STYLE_BUILDER.invoke();
+
+    final TextColor color = style.color();
+    if(color != null) {
+      final Object nativeColor = color instanceof NamedTextColor && NATIVE_NAMED_TEXT_COLOR != null
+        ? NATIVE_NAMED_TEXT_COLOR.invoke(color.value())
+        : NATIVE_TEXT_COLOR.invoke(color.value());
+      NATIVE_STYLE_BUILDER_COLOR.invoke(builder, nativeColor);
+    }
+
+    for(final Map.Entry<TextDecoration, Object> decoration : DECORATIONS.entrySet()) {
+      final TextDecoration.State state = style.decoration(decoration.getKey());
+      if(state != TextDecoration.State.NOT_SET) {
+        NATIVE_STYLE_BUILDER_DECORATION.invoke(builder, decoration.getValue(), DECORATION_STATES.get(state));
+      }
+    }
+
+    final ClickEvent click = style.clickEvent();
+    if(click != null) {
+      final Object action = CLICK_ACTIONS.get(click.action());
+      if(action == null) return null;
+      NATIVE_STYLE_BUILDER_CLICK_EVENT.invoke(builder, NATIVE_CLICK_EVENT.invoke(action, click.value()));
+    }
+
+    final HoverEvent<?> hover = style.hoverEvent();
+    if(hover != null) {
+      if(hover.action() != HoverEvent.Action.SHOW_TEXT) return null;
+      final Object value = convert((Component) hover.value());
+      if(value == null) return null;
+      NATIVE_STYLE_BUILDER_HOVER_EVENT.invoke(builder, NATIVE_SHOW_TEXT.invoke(value));
+    }
+
+    final String insertion = style.insertion();
+    if(insertion != null) {
+      NATIVE_STYLE_BUILDER_INSERTION.invoke(builder, insertion);
+    }
+
+    final Key font = style.font();
+    if(font != null) {
+      if(NATIVE_STYLE_BUILDER_FONT == null || NATIVE_KEY == null) return null;
+      NATIVE_STYLE_BUILDER_FONT.invoke(builder, NATIVE_KEY.invoke(font.asString()));
+    }
+
+    return NATIVE_STYLE_BUILDER_BUILD.invoke(builder);
+  }
+
+  static @Nullable Class<?> findNativeClass(final @NonNull String@NonNull... names) {
+    // Joined at runtime, so the name is not relocated
+    return findClass(String.join(".", "net", "kyori", "adventure") + "." + String.join(".", names));
+  }
+}
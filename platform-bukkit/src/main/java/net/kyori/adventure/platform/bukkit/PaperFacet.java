@@ -23,11 +23,12 @@
  */
 package net.kyori.adventure.platform.bukkit;
 
+import net.kyori.adventure.audience.MessageType;
+import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.platform.facet.Facet;
 import net.kyori.adventure.platform.facet.FacetBase;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
-import net.md_5.bungee.api.chat.BaseComponent;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -35,22 +36,32 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static net.kyori.adventure.platform.bukkit.NativeComponentBridge.findNativeClass;
 import static net.kyori.adventure.platform.facet.Knob.isEnabled;
 import static net.kyori.adventure.platform.facet.Knob.logError;
+import static net.kyori.adventure.platform.facet.Knob.logUnsupported;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findClass;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findEnum;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findMethod;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findStaticMethod;
-import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.hasClass;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.hasField;
 import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.lookup;
 
 class PaperFacet<V extends CommandSender> extends FacetBase<V> {
   private static final boolean SUPPORTED = isEnabled("paper", true);
   static final Class<?> NATIVE_COMPONENT_CLASS = findClass(String.join(".", "net", "kyori", "adventure", "text", "Component"));
+  private static final Class<?> NATIVE_AUDIENCE_CLASS = findNativeClass("audience", "Audience");
   private static final Class<?> NATIVE_GSON_COMPONENT_SERIALIZER_CLASS = findClass(String.join(".", "net", "kyori", "adventure", "text", "serializer", "gson", "GsonComponentSerializer"));
   private static final Class<?> NATIVE_GSON_COMPONENT_SERIALIZER_IMPL_CLASS = findClass(String.join(".", "net", "kyori", "adventure", "text", "serializer", "gson", "GsonComponentSerializerImpl"));
   private static final MethodHandle NATIVE_GSON_COMPONENT_SERIALIZER_GSON_GETTER = findStaticMethod(NATIVE_GSON_COMPONENT_SERIALIZER_CLASS, "gson", NATIVE_GSON_COMPONENT_SERIALIZER_CLASS);
   private static final MethodHandle NATIVE_GSON_COMPONENT_SERIALIZER_DESERIALIZE_METHOD = findNativeDeserializeMethod();
+  private static final MethodHandle NATIVE_GSON_COMPONENT_SERIALIZER_DESERIALIZE_METHOD_BOUND = createBoundNativeDeserializeMethodHandle();
 
   private static @Nullable MethodHandle findNativeDeserializeMethod() {
     try {
@@ -62,6 +73,47 @@ class PaperFacet<V extends CommandSender> extends FacetBase<V> {
     }
   }
 
+  private static @Nullable MethodHandle createBoundNativeDeserializeMethodHandle() {
+    if(NATIVE_GSON_COMPONENT_SERIALIZER_GSON_GETTER != null && NATIVE_GSON_COMPONENT_SERIALIZER_DESERIALIZE_METHOD != null) {
+      try {
+        return NATIVE_GSON_COMPONENT_SERIALIZER_DESERIALIZE_METHOD.bindTo(NATIVE_GSON_COMPONENT_SERIALIZER_GSON_GETTER.invoke());
+      } catch(final Throwable throwable) {
+        logError(throwable, "Failed to access native GsonComponentSerializer");
+        return null;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets whether native components can be created, either directly or through JSON.
+   *
+   * @return if native components are supported
+   */
+  static boolean isNativeComponentSupported() {
+    return NATIVE_COMPONENT_CLASS != null && (NativeComponentBridge.isSupported() || NATIVE_GSON_COMPONENT_SERIALIZER_DESERIALIZE_METHOD_BOUND != null);
+  }
+
+  /**
+   * Creates a native component.
+   *
+   * <p>Components are converted directly when possible, otherwise they are serialized to JSON and deserialized by the native serializer.</p>
+   *
+   * @param message a component
+   * @return a native component or {@code null}
+   */
+  static @Nullable Object createNativeComponent(final @NonNull Component message) {
+    final Object component = NativeComponentBridge.toNative(message);
+    if(component != null || NATIVE_GSON_COMPONENT_SERIALIZER_DESERIALIZE_METHOD_BOUND == null) return component;
+
+    try {
+      return NATIVE_GSON_COMPONENT_SERIALIZER_DESERIALIZE_METHOD_BOUND.invoke(GsonComponentSerializer.gson().serialize(message));
+    } catch(final Throwable throwable) {
+      logError(throwable, "Failed to create native Component message");
+      return null;
+    }
+  }
+
   protected PaperFacet(final @Nullable Class<? extends V> viewerClass) {
     super(viewerClass);
   }
@@ -71,76 +123,335 @@ class PaperFacet<V extends CommandSender> extends FacetBase<V> {
     return super.isSupported() && SUPPORTED;
   }
 
-  static class Title extends SpigotFacet.Message<Player> implements Facet.Title<Player, BaseComponent[], com.destroystokyo.paper.Title> {
-    private static final boolean SUPPORTED = hasClass("com.destroystokyo.paper.Title");
+  static class Message<V extends CommandSender> extends PaperFacet<V> implements Facet.Message<V, Object> {
+    protected Message(final @Nullable Class<? extends V> viewerClass) {
+      super(viewerClass);
+    }
 
-    protected Title() {
+    @Override
+    public boolean isSupported() {
+      return super.isSupported() && isNativeComponentSupported() && NATIVE_AUDIENCE_CLASS != null && NATIVE_AUDIENCE_CLASS.isAssignableFrom(CommandSender.class);
+    }
+
+    @Override
+    public @Nullable Object createMessage(final @NonNull V viewer, final @NonNull Component message) {
+      return createNativeComponent(message);
+    }
+
+    @Override
+    public boolean isMessageCacheable() {
+      return true;
+    }
+  }
+
+  static final class Chat extends Message<CommandSender> implements Facet.Chat<CommandSender, Object> {
+    private static final Class<?> NATIVE_IDENTITY_CLASS = findNativeClass("identity", "Identity");
+    private static final Class<?> NATIVE_MESSAGE_TYPE_CLASS = findNativeClass("audience", "MessageType");
+    private static final MethodHandle NATIVE_SEND_MESSAGE = findMethod(NATIVE_AUDIENCE_CLASS, "sendMessage", void.class, NATIVE_IDENTITY_CLASS, NATIVE_COMPONENT_CLASS, NATIVE_MESSAGE_TYPE_CLASS);
+    private static final MethodHandle NATIVE_IDENTITY = findStaticMethod(NATIVE_IDENTITY_CLASS, "identity", NATIVE_IDENTITY_CLASS, UUID.class);
+    private static final MethodHandle NATIVE_IDENTITY_NIL = findStaticMethod(NATIVE_IDENTITY_CLASS, "nil", NATIVE_IDENTITY_CLASS);
+    private static final Object NATIVE_MESSAGE_TYPE_CHAT = findEnum(NATIVE_MESSAGE_TYPE_CLASS, "CHAT");
+    private static final Object NATIVE_MESSAGE_TYPE_SYSTEM = findEnum(NATIVE_MESSAGE_TYPE_CLASS, "SYSTEM");
+
+    protected Chat() {
+      super(CommandSender.class);
+    }
+
+    @Override
+    public boolean isSupported() {
+      return super.isSupported() && NATIVE_SEND_MESSAGE != null && NATIVE_IDENTITY != null && NATIVE_IDENTITY_NIL != null
+        && NATIVE_MESSAGE_TYPE_CHAT != null && NATIVE_MESSAGE_TYPE_SYSTEM != null;
+    }
+
+    @Override
+    public void sendMessage(final @NonNull CommandSender viewer, final @NonNull Identity source, final @NonNull Object message, final @NonNull MessageType type) {
+      try {
+        final Object nativeSource = source == Identity.nil() ? NATIVE_IDENTITY_NIL.invoke() : NATIVE_IDENTITY.invoke(source.uuid());
+        NATIVE_SEND_MESSAGE.invoke(viewer, nativeSource, message, type == MessageType.CHAT ? NATIVE_MESSAGE_TYPE_CHAT : NATIVE_MESSAGE_TYPE_SYSTEM);
+      } catch(final Throwable error) {
+        logError(error, "Failed to send native message to %s", viewer);
+      }
+    }
+  }
+
+  static final class ActionBar extends Message<Player> implements Facet.ActionBar<Player, Object> {
+    private static final MethodHandle NATIVE_SEND_ACTION_BAR = findMethod(NATIVE_AUDIENCE_CLASS, "sendActionBar", void.class, NATIVE_COMPONENT_CLASS);
+
+    protected ActionBar() {
       super(Player.class);
     }
 
     @Override
     public boolean isSupported() {
-      return super.isSupported() && SUPPORTED;
+      return super.isSupported() && NATIVE_SEND_ACTION_BAR != null;
+    }
+
+    @Override
+    public void sendMessage(final @NonNull Player viewer, final @NonNull Object message) {
+      try {
+        NATIVE_SEND_ACTION_BAR.invoke(viewer, message);
+      } catch(final Throwable error) {
+        logError(error, "Failed to send native action bar to %s", viewer);
+      }
+    }
+  }
+
+  static final class Title extends Message<Player> implements Facet.Title<Player, Object, Object> {
+    private static final Class<?> NATIVE_TITLE_CLASS = findNativeClass("title", "Title");
+    private static final Class<?> NATIVE_TITLE_TIMES_CLASS = findNativeClass("title", "Title$Times");
+    private static final MethodHandle NATIVE_TITLE = findStaticMethod(NATIVE_TITLE_CLASS, "title", NATIVE_TITLE_CLASS, NATIVE_COMPONENT_CLASS, NATIVE_COMPONENT_CLASS, NATIVE_TITLE_TIMES_CLASS);
+    private static final MethodHandle NATIVE_TITLE_TIMES = findTimesMethod();
+    private static final MethodHandle NATIVE_SHOW_TITLE = findMethod(NATIVE_AUDIENCE_CLASS, "showTitle", void.class, NATIVE_TITLE_CLASS);
+    private static final MethodHandle NATIVE_CLEAR_TITLE = findMethod(NATIVE_AUDIENCE_CLASS, "clearTitle", void.class);
+    private static final MethodHandle NATIVE_RESET_TITLE = findMethod(NATIVE_AUDIENCE_CLASS, "resetTitle", void.class);
+
+    private static @Nullable MethodHandle findTimesMethod() {
+      final MethodHandle times = findStaticMethod(NATIVE_TITLE_TIMES_CLASS, "times", NATIVE_TITLE_TIMES_CLASS, Duration.class, Duration.class, Duration.class);
+      return times != null ? times : findStaticMethod(NATIVE_TITLE_TIMES_CLASS, "of", NATIVE_TITLE_TIMES_CLASS, Duration.class, Duration.class, Duration.class);
+    }
+
+    protected Title() {
+      super(Player.class);
     }
 
     @Override
-    public com.destroystokyo.paper.@NonNull Title createTitle(final BaseComponent @Nullable[] title, final BaseComponent @Nullable[] subTitle, final int inTicks, final int stayTicks, final int outTicks) {
-      final com.destroystokyo.paper.Title.Builder builder = com.destroystokyo.paper.Title.builder();
+    public boolean isSupported() {
+      return super.isSupported() && NATIVE_TITLE != null && NATIVE_TITLE_TIMES != null && NATIVE_SHOW_TITLE != null && NATIVE_CLEAR_TITLE != null && NATIVE_RESET_TITLE != null;
+    }
 
-      if(title != null) builder.title(title);
-      if(subTitle != null) builder.subtitle(subTitle);
-      if(inTicks > -1) builder.fadeIn(inTicks);
-      if(stayTicks > -1) builder.stay(stayTicks);
-      if(outTicks > -1) builder.fadeOut(outTicks);
+    @Override
+    public @Nullable Object createTitle(final @Nullable Object title, final @Nullable Object subTitle, final int inTicks, final int stayTicks, final int outTicks) {
+      try {
+        final Object emptyTitle = title == null || subTitle == null ? createNativeComponent(Component.empty()) : null;
+        final Object times = inTicks == -1 && stayTicks == -1 && outTicks == -1 ? null : NATIVE_TITLE_TIMES.invoke(
+          this.duration(inTicks),
+          this.duration(stayTicks),
+          this.duration(outTicks)
+        );
+        return NATIVE_TITLE.invoke(title == null ? emptyTitle : title, subTitle == null ? emptyTitle : subTitle, times);
+      } catch(final Throwable error) {
+        logError(error, "Failed to create native Title");
+        return null;
+      }
+    }
 
-      return builder.build();
+    // Unset times stay at -1 ticks, which the client ignores to keep its current times, the same as the packet facets
+    private @NonNull Duration duration(final int ticks) {
+      return Duration.ofMillis(ticks * 50L);
     }
 
     @Override
-    public void showTitle(final @NonNull Player viewer, final com.destroystokyo.paper.@NonNull Title title) {
-      viewer.sendTitle(title);
+    public void showTitle(final @NonNull Player viewer, final @NonNull Object title) {
+      try {
+        NATIVE_SHOW_TITLE.invoke(viewer, title);
+      } catch(final Throwable error) {
+        logError(error, "Failed to show native title to %s", viewer);
+      }
     }
 
     @Override
     public void clearTitle(final @NonNull Player viewer) {
-      viewer.hideTitle();
+      try {
+        NATIVE_CLEAR_TITLE.invoke(viewer);
+      } catch(final Throwable error) {
+        logError(error, "Failed to clear native title of %s", viewer);
+      }
     }
 
     @Override
     public void resetTitle(final @NonNull Player viewer) {
-      viewer.resetTitle();
+      try {
+        NATIVE_RESET_TITLE.invoke(viewer);
+      } catch(final Throwable error) {
+        logError(error, "Failed to reset native title of %s", viewer);
+      }
     }
   }
 
-  static class TabList extends CraftBukkitFacet.TabList {
-    private static final boolean SUPPORTED = hasField(CLASS_CRAFT_PLAYER, "playerListHeader", NATIVE_COMPONENT_CLASS) && hasField(CLASS_CRAFT_PLAYER, "playerListFooter", NATIVE_COMPONENT_CLASS);
-    private static final MethodHandle NATIVE_GSON_COMPONENT_SERIALIZER_DESERIALIZE_METHOD_BOUND = createBoundNativeDeserializeMethodHandle();
-
-    private static @Nullable MethodHandle createBoundNativeDeserializeMethodHandle() {
-      if(SUPPORTED) {
-        try {
-          return NATIVE_GSON_COMPONENT_SERIALIZER_DESERIALIZE_METHOD.bindTo(NATIVE_GSON_COMPONENT_SERIALIZER_GSON_GETTER.invoke());
-        } catch(final Throwable throwable) {
-          logError(throwable, "Failed to access native GsonComponentSerializer");
-          return null;
+  static final class BossBar extends PaperFacet<Player> implements Facet.BossBar<Player> {
+    private static final Class<?> NATIVE_BOSS_BAR_CLASS = findNativeClass("bossbar", "BossBar");
+    private static final Class<?> NATIVE_BOSS_BAR_COLOR_CLASS = findNativeClass("bossbar", "BossBar$Color");
+    private static final Class<?> NATIVE_BOSS_BAR_OVERLAY_CLASS = findNativeClass("bossbar", "BossBar$Overlay");
+    private static final Class<?> NATIVE_BOSS_BAR_FLAG_CLASS = findNativeClass("bossbar", "BossBar$Flag");
+    private static final MethodHandle NATIVE_BOSS_BAR = findStaticMethod(NATIVE_BOSS_BAR_CLASS, "bossBar", NATIVE_BOSS_BAR_CLASS, NATIVE_COMPONENT_CLASS, float.class, NATIVE_BOSS_BAR_COLOR_CLASS, NATIVE_BOSS_BAR_OVERLAY_CLASS);
+    private static final MethodHandle NATIVE_BOSS_BAR_NAME = findMethod(NATIVE_BOSS_BAR_CLASS, "name", NATIVE_BOSS_BAR_CLASS, NATIVE_COMPONENT_CLASS);
+    private static final MethodHandle NATIVE_BOSS_BAR_PROGRESS = findProgressMethod();
+    private static final MethodHandle NATIVE_BOSS_BAR_COLOR = findMethod(NATIVE_BOSS_BAR_CLASS, "color", NATIVE_BOSS_BAR_CLASS, NATIVE_BOSS_BAR_COLOR_CLASS);
+    private static final MethodHandle NATIVE_BOSS_BAR_OVERLAY = findMethod(NATIVE_BOSS_BAR_CLASS, "overlay", NATIVE_BOSS_BAR_CLASS, NATIVE_BOSS_BAR_OVERLAY_CLASS);
+    private static final MethodHandle NATIVE_BOSS_BAR_ADD_FLAG = findMethod(NATIVE_BOSS_BAR_CLASS, "addFlag", NATIVE_BOSS_BAR_CLASS, NATIVE_BOSS_BAR_FLAG_CLASS);
+    private static final MethodHandle NATIVE_BOSS_BAR_REMOVE_FLAG = findMethod(NATIVE_BOSS_BAR_CLASS, "removeFlag", NATIVE_BOSS_BAR_CLASS, NATIVE_BOSS_BAR_FLAG_CLASS);
+    private static final MethodHandle NATIVE_SHOW_BOSS_BAR = findMethod(NATIVE_AUDIENCE_CLASS, "showBossBar", void.class, NATIVE_BOSS_BAR_CLASS);
+    private static final MethodHandle NATIVE_HIDE_BOSS_BAR = findMethod(NATIVE_AUDIENCE_CLASS, "hideBossBar", void.class, NATIVE_BOSS_BAR_CLASS);
+    private static final Object NATIVE_BOSS_BAR_COLOR_PINK = findEnum(NATIVE_BOSS_BAR_COLOR_CLASS, "PINK");
+    private static final Object NATIVE_BOSS_BAR_OVERLAY_PROGRESS = findEnum(NATIVE_BOSS_BAR_OVERLAY_CLASS, "PROGRESS");
+
+    private static @Nullable MethodHandle findProgressMethod() {
+      final MethodHandle progress = findMethod(NATIVE_BOSS_BAR_CLASS, "progress", NATIVE_BOSS_BAR_CLASS, float.class);
+      return progress != null ? progress : findMethod(NATIVE_BOSS_BAR_CLASS, "percent", NATIVE_BOSS_BAR_CLASS, float.class);
+    }
+
+    public static class Builder extends PaperFacet<Player> implements Facet.BossBar.Builder<Player, PaperFacet.BossBar> {
+      protected Builder() {
+        super(Player.class);
+      }
+
+      @Override
+      public boolean isSupported() {
+        return super.isSupported() && isNativeComponentSupported() && NATIVE_BOSS_BAR != null && NATIVE_BOSS_BAR_NAME != null && NATIVE_BOSS_BAR_PROGRESS != null
+          && NATIVE_BOSS_BAR_COLOR != null && NATIVE_BOSS_BAR_OVERLAY != null && NATIVE_BOSS_BAR_ADD_FLAG != null && NATIVE_BOSS_BAR_REMOVE_FLAG != null
+          && NATIVE_SHOW_BOSS_BAR != null && NATIVE_HIDE_BOSS_BAR != null && NATIVE_BOSS_BAR_COLOR_PINK != null && NATIVE_BOSS_BAR_OVERLAY_PROGRESS != null;
+      }
+
+      @Override
+      public PaperFacet.@NonNull BossBar createBossBar(final @NonNull Collection<Player> viewers) {
+        return new PaperFacet.BossBar(viewers);
+      }
+    }
+
+    private final Set<Player> viewers;
+    private final @Nullable Object bar;
+    private volatile boolean visible;
+
+    private BossBar(final @NonNull Collection<Player> viewers) {
+      super(Player.class);
+      this.viewers = ConcurrentHashMap.newKeySet();
+      this.viewers.addAll(viewers);
+
+      Object bar = null;
+      try {
+        bar = NATIVE_BOSS_BAR.invoke(createNativeComponent(Component.empty()), 1f, NATIVE_BOSS_BAR_COLOR_PINK, NATIVE_BOSS_BAR_OVERLAY_PROGRESS);
+      } catch(final Throwable error) {
+        logError(error, "Failed to create native BossBar");
+      }
+      this.bar = bar;
+    }
+
+    @Override
+    public void bossBarInitialized(final net.kyori.adventure.bossbar.@NonNull BossBar bar) {
+      Facet.BossBar.super.bossBarInitialized(bar);
+      this.visible = true;
+      for(final Player viewer : this.viewers) {
+        this.show(viewer);
+      }
+    }
+
+    @Override
+    public void bossBarNameChanged(final net.kyori.adventure.bossbar.@NonNull BossBar bar, final @NonNull Component oldName, final @NonNull Component newName) {
+      final Object name = createNativeComponent(newName);
+      if(name != null) this.update(NATIVE_BOSS_BAR_NAME, name);
+    }
+
+    @Override
+    public void bossBarProgressChanged(final net.kyori.adventure.bossbar.@NonNull BossBar bar, final float oldProgress, final float newProgress) {
+      this.update(NATIVE_BOSS_BAR_PROGRESS, newProgress);
+    }
+
+    @Override
+    public void bossBarColorChanged(final net.kyori.adventure.bossbar.@NonNull BossBar bar, final net.kyori.adventure.bossbar.BossBar.@NonNull Color oldColor, final net.kyori.adventure.bossbar.BossBar.@NonNull Color newColor) {
+      final Object color = findEnum(NATIVE_BOSS_BAR_COLOR_CLASS, newColor.name());
+      if(color == null) {
+        logUnsupported(this, newColor);
+      } else {
+        this.update(NATIVE_BOSS_BAR_COLOR, color);
+      }
+    }
+
+    @Override
+    public void bossBarOverlayChanged(final net.kyori.adventure.bossbar.@NonNull BossBar bar, final net.kyori.adventure.bossbar.BossBar.@NonNull Overlay oldOverlay, final net.kyori.adventure.bossbar.BossBar.@NonNull Overlay newOverlay) {
+      final Object overlay = findEnum(NATIVE_BOSS_BAR_OVERLAY_CLASS, newOverlay.name());
+      if(overlay == null) {
+        logUnsupported(this, newOverlay);
+      } else {
+        this.update(NATIVE_BOSS_BAR_OVERLAY, overlay);
+      }
+    }
+
+    @Override
+    public void bossBarFlagsChanged(final net.kyori.adventure.bossbar.@NonNull BossBar bar, final @NonNull Set<net.kyori.adventure.bossbar.BossBar.Flag> flagsAdded, final @NonNull Set<net.kyori.adventure.bossbar.BossBar.Flag> flagsRemoved) {
+      for(final net.kyori.adventure.bossbar.BossBar.Flag removeFlag : flagsRemoved) {
+        final Object flag = findEnum(NATIVE_BOSS_BAR_FLAG_CLASS, removeFlag.name());
+        if(flag != null) this.update(NATIVE_BOSS_BAR_REMOVE_FLAG, flag);
+      }
+      for(final net.kyori.adventure.bossbar.BossBar.Flag addFlag : flagsAdded) {
+        final Object flag = findEnum(NATIVE_BOSS_BAR_FLAG_CLASS, addFlag.name());
+        if(flag == null) {
+          logUnsupported(this, addFlag);
+        } else {
+          this.update(NATIVE_BOSS_BAR_ADD_FLAG, flag);
         }
       }
-      return null;
+    }
+
+    private void update(final @NonNull MethodHandle setter, final @NonNull Object value) {
+      if(this.bar == null) return;
+      try {
+        setter.invoke(this.bar, value);
+      } catch(final Throwable error) {
+        logError(error, "Failed to update native BossBar: %s", value);
+      }
+    }
+
+    private void show(final @NonNull Player viewer) {
+      if(this.bar == null) return;
+      try {
+        NATIVE_SHOW_BOSS_BAR.invoke(viewer, this.bar);
+      } catch(final Throwable error) {
+        logError(error, "Failed to show native BossBar to %s", viewer);
+      }
+    }
+
+    private void hide(final @NonNull Player viewer) {
+      if(this.bar == null) return;
+      try {
+        NATIVE_HIDE_BOSS_BAR.invoke(viewer, this.bar);
+      } catch(final Throwable error) {
+        logError(error, "Failed to hide native BossBar from %s", viewer);
+      }
+    }
+
+    @Override
+    public void addViewer(final @NonNull Player viewer) {
+      if(this.viewers.add(viewer) && this.visible) {
+        this.show(viewer);
+      }
+    }
+
+    @Override
+    public void removeViewer(final @NonNull Player viewer) {
+      if(this.viewers.remove(viewer)) {
+        this.hide(viewer);
+      }
     }
 
+    @Override
+    public boolean isEmpty() {
+      return !this.visible || this.viewers.isEmpty();
+    }
+
+    @Override
+    public void close() {
+      for(final Player viewer : this.viewers) {
+        this.removeViewer(viewer);
+      }
+    }
+  }
+
+  static class TabList extends CraftBukkitFacet.TabList {
+    private static final boolean SUPPORTED = hasField(CLASS_CRAFT_PLAYER, "playerListHeader", NATIVE_COMPONENT_CLASS) && hasField(CLASS_CRAFT_PLAYER, "playerListFooter", NATIVE_COMPONENT_CLASS);
+
     @Override
     public boolean isSupported() {
-      return SUPPORTED && super.isSupported();
+      return SUPPORTED && isNativeComponentSupported() && super.isSupported();
     }
 
     @Override
     public @Nullable Object createMessage(final @NonNull Player viewer, final @NonNull Component message) {
-      try {
-        return NATIVE_GSON_COMPONENT_SERIALIZER_DESERIALIZE_METHOD_BOUND.invoke(GsonComponentSerializer.gson().serialize(message));
-      } catch(final Throwable throwable) {
-        logError(throwable, "Failed to create native Component message");
-        return null;
-      }
+      return createNativeComponent(message);
+    }
+
+    @Override
+    public boolean isMessageCacheable() {
+      return true;
     }
   }
 }
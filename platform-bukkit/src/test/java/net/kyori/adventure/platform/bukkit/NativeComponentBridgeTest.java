@@ -0,0 +1,91 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.bukkit;
+
+import java.util.UUID;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The native classes are not relocated in tests, so they are the same adventure classes as the components here
+class NativeComponentBridgeTest {
+  @Test
+  void testSupported() {
+    assertTrue(NativeComponentBridge.isSupported());
+  }
+
+  @Test
+  void testNamedAndHexColors() {
+    final Component named = (Component) NativeComponentBridge.toNative(Component.text("named", NamedTextColor.RED));
+    assertSame(NamedTextColor.RED, named.color());
+
+    final Component hex = (Component) NativeComponentBridge.toNative(Component.text("hex", TextColor.color(0x123456)));
+    assertFalse(hex.color() instanceof NamedTextColor);
+    assertEquals(0x123456, hex.color().value());
+  }
+
+  @Test
+  void testEmptyStyle() {
+    final Component converted = (Component) NativeComponentBridge.toNative(Component.text("plain"));
+    assertSame(Style.empty(), converted.style());
+  }
+
+  @Test
+  void testExplicitFalseDecoration() {
+    final Component component = Component.text("a").decoration(TextDecoration.BOLD, false);
+    assertEquals(component, NativeComponentBridge.toNative(component));
+  }
+
+  @Test
+  void testFontAndCopyToClipboard() {
+    final Component component = Component.text("font", Style.builder().font(Key.key("uniform")).clickEvent(ClickEvent.copyToClipboard("copied")).build());
+    assertEquals(component, NativeComponentBridge.toNative(component));
+  }
+
+  @Test
+  void testTranslatableArgsAndChildren() {
+    final Component component = Component.translatable("chat.type.text", Component.text("name"), Component.text("message", NamedTextColor.GRAY))
+      .append(Component.text("child").hoverEvent(HoverEvent.showText(Component.text("tooltip"))));
+    assertEquals(component, NativeComponentBridge.toNative(component));
+  }
+
+  @Test
+  void testUnsupportedFallsBack() {
+    assertNull(NativeComponentBridge.toNative(Component.keybind("key.jump")));
+    assertNull(NativeComponentBridge.toNative(Component.text("parent").append(Component.selector("@p"))));
+    assertNull(NativeComponentBridge.toNative(Component.text("entity").hoverEvent(HoverEvent.showEntity(Key.key("pig"), UUID.randomUUID()))));
+  }
+}
@@ -25,6 +25,7 @@ package net.kyori.adventure.platform.bungeecord;
 
 import net.kyori.adventure.platform.facet.Facet;
 import net.kyori.adventure.platform.facet.FacetAudience;
+import net.kyori.adventure.platform.facet.FacetTable;
 import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -44,8 +45,11 @@ final class BungeeAudience extends FacetAudience<CommandSender> {
   private static final Collection<Facet.TabList<ProxiedPlayer, ?>> TAB_LIST = Facet.of(
     BungeeFacet.TabList::new
   );
+  private static final FacetTable<CommandSender> FACETS = new FacetTable<>(
+    viewer -> viewer instanceof ProxiedPlayer ? ((ProxiedPlayer) viewer).getPendingConnection().getVersion() : 0,
+    CHAT, ACTION_BAR, TITLE, null, null, BOSS_BAR, TAB_LIST);
 
   BungeeAudience(final @NonNull Collection<? extends CommandSender> viewers) {
-    super(viewers, null, CHAT, ACTION_BAR, TITLE, null, null, BOSS_BAR, TAB_LIST);
+    super(viewers, null, FACETS);
   }
 }
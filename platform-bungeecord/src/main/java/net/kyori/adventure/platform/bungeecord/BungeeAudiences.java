@@ -77,5 +77,23 @@ public interface BungeeAudiences extends AudienceProvider {
    * @since 4.0.0
    */
   @NonNull Audience filter(final @NonNull Predicate<CommandSender> filter);
+
+  /**
+   * Refreshes the permissions of a command sender.
+   *
+   * <p>Permission plugins should call this after they recalculate the permissions of a sender,
+   * otherwise {@link #permission(String)} audiences are updated after a short delay.</p>
+   *
+   * @param sender a command sender
+   * @since 4.0.0
+   */
+  void refreshPermissions(final @NonNull CommandSender sender);
+
+  /**
+   * Refreshes the permissions of every command sender.
+   *
+   * @since 4.0.0
+   */
+  void refreshPermissions();
 }
 
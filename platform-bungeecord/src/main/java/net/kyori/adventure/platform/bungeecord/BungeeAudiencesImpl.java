@@ -27,15 +27,19 @@ import com.google.gson.Gson;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.platform.facet.FacetAudienceProvider;
+import net.kyori.adventure.platform.facet.FacetTicker;
 import net.kyori.adventure.platform.facet.Knob;
 import net.kyori.adventure.text.serializer.bungeecord.BungeeComponentSerializer;
 import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.ProxyServer;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
+import net.md_5.bungee.api.connection.Server;
 import net.md_5.bungee.api.event.PlayerDisconnectEvent;
 import net.md_5.bungee.api.event.PostLoginEvent;
+import net.md_5.bungee.api.event.ServerSwitchEvent;
 import net.md_5.bungee.api.event.SettingsChangedEvent;
 import net.md_5.bungee.api.plugin.Plugin;
+import net.md_5.bungee.api.scheduler.ScheduledTask;
 import net.md_5.bungee.event.EventHandler;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -47,6 +51,7 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import static java.util.Objects.requireNonNull;
@@ -80,11 +85,14 @@ final class BungeeAudiencesImpl extends FacetAudienceProvider<CommandSender, Bun
 
   private final Plugin plugin;
   private final Listener listener;
+  private final ScheduledTask tickTask;
 
   BungeeAudiencesImpl(final Plugin plugin) {
     this.plugin = requireNonNull(plugin, "plugin");
     this.listener = new Listener();
     this.plugin.getProxy().getPluginManager().registerListener(this.plugin, this.listener);
+    // Proxies have no ticks, so use the length of a game tick
+    this.tickTask = this.plugin.getProxy().getScheduler().schedule(this.plugin, FacetTicker::tick, 50, 50, TimeUnit.MILLISECONDS);
 
     final CommandSender console = this.plugin.getProxy().getConsole();
     this.addViewer(console);
@@ -125,6 +133,11 @@ final class BungeeAudiencesImpl extends FacetAudienceProvider<CommandSender, Bun
     return ProxyServer.getInstance().getConsole().equals(viewer);
   }
 
+  @Override
+  public void refreshPermissions(final @NonNull CommandSender sender) {
+    this.refreshViewer(sender);
+  }
+
   @Override
   protected boolean hasPermission(final @NonNull CommandSender viewer, final @NonNull String permission) {
     return viewer.hasPermission(permission);
@@ -138,7 +151,8 @@ final class BungeeAudiencesImpl extends FacetAudienceProvider<CommandSender, Bun
   @Override
   protected boolean isOnServer(final @NonNull CommandSender viewer, final @NonNull String server) {
     if(viewer instanceof ProxiedPlayer) {
-      return ((ProxiedPlayer) viewer).getServer().getInfo().getName().equals(server);
+      final Server connection = ((ProxiedPlayer) viewer).getServer();
+      return connection != null && connection.getInfo().getName().equals(server);
     }
     return false;
   }
@@ -152,6 +166,7 @@ final class BungeeAudiencesImpl extends FacetAudienceProvider<CommandSender, Bun
   @Override
   public void close() {
     this.plugin.getProxy().getPluginManager().unregisterListener(this.listener);
+    this.tickTask.cancel();
     super.close();
   }
 
@@ -170,5 +185,10 @@ final class BungeeAudiencesImpl extends FacetAudienceProvider<CommandSender, Bun
     public void onSettingsChanged(final SettingsChangedEvent event) {
       BungeeAudiencesImpl.this.changeViewer(event.getPlayer(), event.getPlayer().getLocale());
     }
+
+    @EventHandler(priority = Byte.MAX_VALUE /* after EventPriority.HIGHEST */)
+    public void onServerSwitch(final ServerSwitchEvent event) {
+      BungeeAudiencesImpl.this.refreshViewer(event.getPlayer());
+    }
   }
 }
@@ -23,6 +23,11 @@
  */
 package net.kyori.adventure.platform.bungeecord;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.platform.facet.Facet;
@@ -32,17 +37,38 @@ import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.ProxyServer;
 import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.ScoreComponent;
+import net.md_5.bungee.api.chat.SelectorComponent;
+import net.md_5.bungee.api.chat.TranslatableComponent;
 import net.md_5.bungee.api.connection.Connection;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import net.md_5.bungee.chat.ComponentSerializer;
+import net.md_5.bungee.protocol.DefinedPacket;
+import net.md_5.bungee.protocol.Protocol;
+import net.md_5.bungee.protocol.packet.PlayerListHeaderFooter;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+import static net.kyori.adventure.platform.facet.Knob.isEnabled;
+import static net.kyori.adventure.platform.facet.Knob.logError;
 import static net.kyori.adventure.platform.facet.Knob.logUnsupported;
 import static net.kyori.adventure.text.serializer.bungeecord.BungeeComponentSerializer.legacy;
 import static net.kyori.adventure.text.serializer.bungeecord.BungeeComponentSerializer.get;
@@ -88,9 +114,17 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
         return legacy().serialize(message);
       }
     }
+
+    @Override
+    public int protocolBucket(final @NonNull ProxiedPlayer viewer) {
+      return viewer.getPendingConnection().getVersion() >= PROTOCOL_HEX_COLOR ? PROTOCOL_HEX_COLOR : PROTOCOL_JSON;
+    }
   }
 
   static class ChatPlayer extends Message implements Facet.Chat<ProxiedPlayer, BaseComponent[]> {
+    private static final int PROTOCOL_SYSTEM_CHAT = 759; // Chat packet was replaced in 1.19
+    private static final @Nullable MethodHandle NEW_CHAT_PACKET = PacketBroadcast.findPacketConstructor(net.md_5.bungee.protocol.packet.Chat.class, String.class, byte.class);
+
     public @Nullable ChatMessageType createType(final @NonNull MessageType type) {
       if(type == MessageType.CHAT) {
         return ChatMessageType.CHAT;
@@ -108,6 +142,22 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
         viewer.sendMessage(chat, message);
       }
     }
+
+    @Override
+    public void sendMessage(final @NonNull Collection<? extends ProxiedPlayer> viewers, final @NonNull Identity source, final BaseComponent @NonNull [] message, final @NonNull MessageType type) {
+      final ChatMessageType chat = this.createType(type);
+      if(chat == null) return;
+
+      final boolean broadcast = NEW_CHAT_PACKET != null && PacketBroadcast.isBroadcastable(message);
+      final List<ProxiedPlayer> players = PacketBroadcast.partition(viewers, broadcast ? PROTOCOL_SYSTEM_CHAT : -1, viewer -> viewer.sendMessage(chat, message));
+      if(players.isEmpty()) return;
+
+      try {
+        PacketBroadcast.sendPacket(players, (DefinedPacket) NEW_CHAT_PACKET.invoke(ComponentSerializer.toString(message), (byte) chat.ordinal()));
+      } catch(final Throwable error) {
+        logError(error, "Failed to create chat packet");
+      }
+    }
   }
 
   static class ActionBar extends Message implements Facet.ActionBar<ProxiedPlayer, BaseComponent[]> {
@@ -117,12 +167,18 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
     }
   }
 
-  static class Title extends Message implements Facet.Title<ProxiedPlayer, BaseComponent[], net.md_5.bungee.api.Title> {
+  static class Title extends Message implements Facet.Title<ProxiedPlayer, BaseComponent[], Title.Holder> {
+    private static final int PROTOCOL_SPLIT_TITLE = 755; // Title packet was replaced in 1.17
+    private static final @Nullable MethodHandle NEW_TITLE_PACKET = PacketBroadcast.findPacketConstructor(net.md_5.bungee.protocol.packet.Title.class, net.md_5.bungee.protocol.packet.Title.Action.class, String.class, int.class, int.class, int.class);
     private static final net.md_5.bungee.api.Title CLEAR = ProxyServer.getInstance().createTitle().clear();
     private static final net.md_5.bungee.api.Title RESET = ProxyServer.getInstance().createTitle().reset();
+    // Same as the proxy, when only some of the times are set
+    private static final int DEFAULT_FADE_IN = 20;
+    private static final int DEFAULT_STAY = 60;
+    private static final int DEFAULT_FADE_OUT = 20;
 
     @Override
-    public net.md_5.bungee.api.@NonNull Title createTitle(final BaseComponent @Nullable[] title, final BaseComponent @Nullable[] subTitle, final int inTicks, final int stayTicks, final int outTicks) {
+    public @NonNull Holder createTitle(final BaseComponent @Nullable[] title, final BaseComponent @Nullable[] subTitle, final int inTicks, final int stayTicks, final int outTicks) {
       final net.md_5.bungee.api.Title builder = ProxyServer.getInstance().createTitle();
 
       if(title != null) builder.title(title);
@@ -131,12 +187,51 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
       if(stayTicks > -1) builder.stay(stayTicks);
       if(outTicks > -1) builder.fadeOut(outTicks);
 
-      return builder;
+      return new Holder(builder, this.createPackets(title, subTitle, inTicks, stayTicks, outTicks));
+    }
+
+    private @Nullable List<DefinedPacket> createPackets(final BaseComponent @Nullable[] title, final BaseComponent @Nullable[] subTitle, final int inTicks, final int stayTicks, final int outTicks) {
+      if(NEW_TITLE_PACKET == null) return null;
+      if(title != null && !PacketBroadcast.isBroadcastable(title)) return null;
+      if(subTitle != null && !PacketBroadcast.isBroadcastable(subTitle)) return null;
+
+      // Sent in the same order as the proxy, since the title packet is what shows the title
+      final List<DefinedPacket> packets = new ArrayList<>(3);
+      try {
+        if(inTicks > -1 || stayTicks > -1 || outTicks > -1) {
+          packets.add((DefinedPacket) NEW_TITLE_PACKET.invoke(
+            net.md_5.bungee.protocol.packet.Title.Action.TIMES,
+            (String) null,
+            inTicks > -1 ? inTicks : DEFAULT_FADE_IN,
+            stayTicks > -1 ? stayTicks : DEFAULT_STAY,
+            outTicks > -1 ? outTicks : DEFAULT_FADE_OUT));
+        }
+        if(subTitle != null) {
+          packets.add((DefinedPacket) NEW_TITLE_PACKET.invoke(net.md_5.bungee.protocol.packet.Title.Action.SUBTITLE, ComponentSerializer.toString(subTitle), 0, 0, 0));
+        }
+        if(title != null) {
+          packets.add((DefinedPacket) NEW_TITLE_PACKET.invoke(net.md_5.bungee.protocol.packet.Title.Action.TITLE, ComponentSerializer.toString(title), 0, 0, 0));
+        }
+      } catch(final Throwable error) {
+        logError(error, "Failed to create title packets");
+        return null;
+      }
+      return packets;
     }
 
     @Override
-    public void showTitle(final @NonNull ProxiedPlayer viewer, final net.md_5.bungee.api.@NonNull Title title) {
-      viewer.sendTitle(title);
+    public void showTitle(final @NonNull ProxiedPlayer viewer, final @NonNull Holder title) {
+      viewer.sendTitle(title.title);
+    }
+
+    @Override
+    public void showTitle(final @NonNull Collection<? extends ProxiedPlayer> viewers, final @NonNull Holder title) {
+      final List<ProxiedPlayer> players = PacketBroadcast.partition(viewers, title.packets != null ? PROTOCOL_SPLIT_TITLE : -1, viewer -> this.showTitle(viewer, title));
+      if(players.isEmpty()) return;
+
+      for(final DefinedPacket packet : title.packets) {
+        PacketBroadcast.sendPacket(players, packet);
+      }
     }
 
     @Override
@@ -148,17 +243,29 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
     public void resetTitle(final @NonNull ProxiedPlayer viewer) {
       viewer.sendTitle(RESET);
     }
+
+    static final class Holder {
+      final net.md_5.bungee.api.Title title;
+      final @Nullable List<DefinedPacket> packets; // Null if the title can only be sent to each player
+
+      Holder(final net.md_5.bungee.api.@NonNull Title title, final @Nullable List<DefinedPacket> packets) {
+        this.title = title;
+        this.packets = packets;
+      }
+    }
   }
 
   static class BossBar extends Message implements BossBarPacket<ProxiedPlayer> {
     private final Set<ProxiedPlayer> viewers;
-    private final net.md_5.bungee.protocol.packet.BossBar bar;
+    private final UUID id;
+    private final AtomicReference<State> state;
     private volatile boolean initialized = false;
 
     protected BossBar(final @NonNull Collection<ProxiedPlayer> viewers) {
       super();
       this.viewers = new CopyOnWriteArraySet<>(viewers);
-      this.bar = new net.md_5.bungee.protocol.packet.BossBar(UUID.randomUUID(), ACTION_ADD);
+      this.id = UUID.randomUUID();
+      this.state = new AtomicReference<>(new State(null, 0, 0, 0, (byte) 0));
     }
 
     static class Builder extends BungeeFacet<ProxiedPlayer> implements Facet.BossBar.Builder<ProxiedPlayer, net.kyori.adventure.platform.bungeecord.BungeeFacet.BossBar> {
@@ -171,6 +278,11 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
         return super.isApplicable(viewer) && viewer.getPendingConnection().getVersion() >= PROTOCOL_BOSS_BAR;
       }
 
+      @Override
+      public int protocolBucket(final @NonNull ProxiedPlayer viewer) {
+        return viewer.getPendingConnection().getVersion() >= PROTOCOL_HEX_COLOR ? PROTOCOL_HEX_COLOR : PROTOCOL_JSON;
+      }
+
       @Override
       public net.kyori.adventure.platform.bungeecord.BungeeFacet.@NonNull BossBar createBossBar(final @NonNull Collection<ProxiedPlayer> viewers) {
         return new net.kyori.adventure.platform.bungeecord.BungeeFacet.BossBar(viewers);
@@ -181,51 +293,49 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
     public void bossBarInitialized(final net.kyori.adventure.bossbar.@NonNull BossBar bar) {
       BossBarPacket.super.bossBarInitialized(bar);
       this.initialized = true;
-      this.broadcastPacket(ACTION_ADD);
+      this.broadcastPacket(ACTION_ADD, this.state.get());
     }
 
     @Override
     public void bossBarNameChanged(final net.kyori.adventure.bossbar.@NonNull BossBar bar, final @NonNull Component oldName, final @NonNull Component newName) {
       if(!this.viewers.isEmpty()) {
-        this.bar.setTitle(ComponentSerializer.toString(this.createMessage(this.viewers.iterator().next(), newName)));
-        this.broadcastPacket(ACTION_TITLE);
+        final String title = ComponentSerializer.toString(this.createMessage(this.viewers.iterator().next(), newName));
+        this.broadcastPacket(ACTION_TITLE, this.state.updateAndGet(state -> new State(title, state.health, state.color, state.division, state.flags)));
       }
     }
 
     @Override
     public void bossBarProgressChanged(final net.kyori.adventure.bossbar.@NonNull BossBar bar, final float oldPercent, final float newPercent) {
-      this.bar.setHealth(newPercent);
-      this.broadcastPacket(ACTION_HEALTH);
+      this.broadcastPacket(ACTION_HEALTH, this.state.updateAndGet(state -> new State(state.title, newPercent, state.color, state.division, state.flags)));
     }
 
     @Override
     public void bossBarColorChanged(final net.kyori.adventure.bossbar.@NonNull BossBar bar, final net.kyori.adventure.bossbar.BossBar.@NonNull Color oldColor, final net.kyori.adventure.bossbar.BossBar.@NonNull Color newColor) {
-      this.bar.setColor(this.createColor(newColor));
-      this.broadcastPacket(ACTION_STYLE);
+      final int color = this.createColor(newColor);
+      this.broadcastPacket(ACTION_STYLE, this.state.updateAndGet(state -> new State(state.title, state.health, color, state.division, state.flags)));
     }
 
     @Override
     public void bossBarOverlayChanged(final net.kyori.adventure.bossbar.@NonNull BossBar bar, final net.kyori.adventure.bossbar.BossBar.@NonNull Overlay oldOverlay, final net.kyori.adventure.bossbar.BossBar.@NonNull Overlay newOverlay) {
-      this.bar.setDivision(this.createOverlay(newOverlay));
-      this.broadcastPacket(ACTION_STYLE);
+      final int division = this.createOverlay(newOverlay);
+      this.broadcastPacket(ACTION_STYLE, this.state.updateAndGet(state -> new State(state.title, state.health, state.color, division, state.flags)));
     }
 
     @Override
     public void bossBarFlagsChanged(final net.kyori.adventure.bossbar.@NonNull BossBar bar, final @NonNull Set<net.kyori.adventure.bossbar.BossBar.Flag> flagsAdded, final @NonNull Set<net.kyori.adventure.bossbar.BossBar.Flag> flagsRemoved) {
-      this.bar.setFlags(this.createFlag(this.bar.getFlags(), flagsAdded, flagsRemoved));
-      this.broadcastPacket(ACTION_FLAG);
+      this.broadcastPacket(ACTION_FLAG, this.state.updateAndGet(state -> new State(state.title, state.health, state.color, state.division, this.createFlag(state.flags, flagsAdded, flagsRemoved))));
     }
 
     @Override
     public void addViewer(final @NonNull ProxiedPlayer viewer) {
       this.viewers.add(viewer);
-      this.sendPacket(ACTION_ADD, viewer);
+      viewer.unsafe().sendPacket(this.createPacket(ACTION_ADD, this.state.get()));
     }
 
     @Override
     public void removeViewer(final @NonNull ProxiedPlayer viewer) {
       this.viewers.remove(viewer);
-      this.sendPacket(ACTION_REMOVE, viewer);
+      viewer.unsafe().sendPacket(this.createPacket(ACTION_REMOVE, this.state.get()));
     }
 
     @Override
@@ -235,34 +345,242 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
 
     @Override
     public void close() {
-      this.broadcastPacket(ACTION_REMOVE);
+      this.broadcastPacket(ACTION_REMOVE, this.state.get());
       this.viewers.clear();
     }
 
-    private void broadcastPacket(final int action) {
+    private void broadcastPacket(final int action, final @NonNull State state) {
       if(this.isEmpty()) return;
 
-      synchronized(this.bar) {
-        this.bar.setAction(action);
-        for(final ProxiedPlayer viewer : this.viewers) {
-          viewer.unsafe().sendPacket(this.bar);
+      PacketBroadcast.sendPacket(this.viewers, this.createPacket(action, state));
+    }
+
+    // Each packet is a snapshot that is never changed after it is created, so it can be sent without a lock
+    private net.md_5.bungee.protocol.packet.@NonNull BossBar createPacket(final int action, final @NonNull State state) {
+      final net.md_5.bungee.protocol.packet.BossBar packet = new net.md_5.bungee.protocol.packet.BossBar(this.id, action);
+      packet.setTitle(state.title);
+      packet.setHealth(state.health);
+      packet.setColor(state.color);
+      packet.setDivision(state.division);
+      packet.setFlags(state.flags);
+      return packet;
+    }
+
+    static final class State {
+      final String title;
+      final float health;
+      final int color;
+      final int division;
+      final byte flags;
+
+      State(final @Nullable String title, final float health, final int color, final int division, final byte flags) {
+        this.title = title;
+        this.health = health;
+        this.color = color;
+        this.division = division;
+        this.flags = flags;
+      }
+    }
+  }
+
+  /**
+   * Sends packets that are encoded once for each protocol version, instead of once for each player.
+   *
+   * <p>Encoded packets are written to each channel after the packet encoder, so compression and encryption
+   * still apply per connection. Packet listeners on the encoder are skipped, so this is disabled by default.</p>
+   *
+   * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.bungeecord.broadcast=true}, to enable it.</p>
+   */
+  static final class PacketBroadcast {
+    private static final String ENCODER = "packet-encoder";
+    private static final boolean ENABLED = isEnabled("bungeecord.broadcast", false);
+    private static final @Nullable MethodHandle PLAYER_GET_CHANNEL; // (UserConnection) -> ChannelWrapper
+    private static final @Nullable MethodHandle CHANNEL_GET_HANDLE; // (ChannelWrapper) -> Channel
+    private static final @Nullable MethodHandle CHANNEL_GET_ENCODE_PROTOCOL; // (ChannelWrapper) -> Protocol, since 1.20.2
+    private static final @Nullable MethodHandle ENCODER_ENCODE; // (MessageToByteEncoder, ChannelHandlerContext, Object, ByteBuf) -> void
+
+    static {
+      MethodHandle playerGetChannel = null;
+      MethodHandle channelGetHandle = null;
+      MethodHandle channelGetEncodeProtocol = null;
+      MethodHandle encoderEncode = null;
+      if(ENABLED) {
+        try {
+          final Class<?> channelClass = Class.forName("net.md_5.bungee.netty.ChannelWrapper");
+          playerGetChannel = lookup().unreflect(Class.forName("net.md_5.bungee.UserConnection").getMethod("getCh"));
+          channelGetHandle = lookup().unreflect(channelClass.getMethod("getHandle"));
+          try {
+            channelGetEncodeProtocol = lookup().unreflect(channelClass.getMethod("getEncodeProtocol"));
+          } catch(final NoSuchMethodException error) {
+            // No-op, the protocol only changes during login on older versions
+          }
+
+          final Method encode = MessageToByteEncoder.class.getDeclaredMethod("encode", ChannelHandlerContext.class, Object.class, ByteBuf.class);
+          encode.setAccessible(true);
+          encoderEncode = lookup().unreflect(encode);
+        } catch(final Throwable error) {
+          logError(error, "Failed to initialize packet broadcast");
+          playerGetChannel = null;
+        }
+      }
+      PLAYER_GET_CHANNEL = playerGetChannel;
+      CHANNEL_GET_HANDLE = channelGetHandle;
+      CHANNEL_GET_ENCODE_PROTOCOL = channelGetEncodeProtocol;
+      ENCODER_ENCODE = encoderEncode;
+    }
+
+    private static final boolean SUPPORTED = ENABLED && PLAYER_GET_CHANNEL != null && CHANNEL_GET_HANDLE != null && ENCODER_ENCODE != null;
+
+    private PacketBroadcast() {
+    }
+
+    /**
+     * Sends a packet to players.
+     *
+     * @param players a collection of players
+     * @param packet a packet
+     */
+    static void sendPacket(final @NonNull Collection<? extends ProxiedPlayer> players, final @NonNull DefinedPacket packet) {
+      if(!SUPPORTED || players.size() < 2) {
+        forEach(players, player -> player.unsafe().sendPacket(packet));
+        return;
+      }
+
+      // Encoders replaced by other plugins, such as ViaVersion, may depend on the connection
+      final Map<List<Object>, Map<ProxiedPlayer, ChannelHandlerContext>> groups = new HashMap<>();
+      final List<ProxiedPlayer> others = new ArrayList<>();
+      for(final ProxiedPlayer player : players) {
+        final ChannelHandlerContext context = findEncoder(player);
+        if(context != null) {
+          groups.computeIfAbsent(Arrays.asList(context.handler().getClass(), player.getPendingConnection().getVersion()), key -> new LinkedHashMap<>()).put(player, context);
+        } else {
+          others.add(player);
+        }
+      }
+      forEach(others, player -> player.unsafe().sendPacket(packet));
+
+      for(final Map<ProxiedPlayer, ChannelHandlerContext> contexts : groups.values()) {
+        final ChannelHandlerContext reference = contexts.values().iterator().next();
+        final ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer();
+        try {
+          ENCODER_ENCODE.invoke(reference.handler(), reference, packet, buffer);
+        } catch(final Throwable error) {
+          logError(error, "Failed to encode packet, sending to each player instead: %s", packet);
+          buffer.release();
+          forEach(contexts.keySet(), player -> player.unsafe().sendPacket(packet));
+          continue;
+        }
+
+        try {
+          for(final Map.Entry<ProxiedPlayer, ChannelHandlerContext> entry : contexts.entrySet()) {
+            try {
+              entry.getValue().writeAndFlush(buffer.duplicate().retain());
+            } catch(final Throwable error) {
+              logError(error, "Failed to send encoded packet to %s: %s", entry.getKey(), packet);
+            }
+          }
+        } finally {
+          buffer.release();
+        }
+      }
+    }
+
+    /**
+     * Splits players into those that can be sent a broadcast packet, and those that cannot.
+     *
+     * <p>If a broadcast would not be worth it, every player is passed to the fallback.</p>
+     *
+     * @param players a collection of players
+     * @param maxProtocol the exclusive maximum protocol version of the packet, or {@code -1} if it cannot be broadcast
+     * @param fallback a function to send to a single player
+     * @return a list of players to broadcast to, may be empty
+     */
+    static @NonNull List<ProxiedPlayer> partition(final @NonNull Collection<? extends ProxiedPlayer> players, final int maxProtocol, final @NonNull Consumer<ProxiedPlayer> fallback) {
+      if(!SUPPORTED || players.size() < 2) {
+        forEach(players, fallback);
+        return Collections.emptyList();
+      }
+
+      final List<ProxiedPlayer> broadcast = new ArrayList<>(players.size());
+      final List<ProxiedPlayer> others = new ArrayList<>();
+      for(final ProxiedPlayer player : players) {
+        (player.getPendingConnection().getVersion() < maxProtocol ? broadcast : others).add(player);
+      }
+      forEach(others, fallback);
+      return broadcast;
+    }
+
+    /**
+     * Gets whether components are the same for every player.
+     *
+     * <p>The proxy changes scores, selectors and hover events for each player, so those are sent to each player.</p>
+     *
+     * @param components an array of components
+     * @return if the components can be broadcast
+     */
+    static boolean isBroadcastable(final BaseComponent @NonNull[] components) {
+      for(final BaseComponent component : components) {
+        if(component instanceof ScoreComponent || component instanceof SelectorComponent || component.getHoverEvent() != null) return false;
+        if(component instanceof TranslatableComponent) {
+          final List<BaseComponent> with = ((TranslatableComponent) component).getWith();
+          if(with != null && !isBroadcastable(with.toArray(EMPTY_COMPONENT_ARRAY))) return false;
         }
+        final List<BaseComponent> extra = component.getExtra();
+        if(extra != null && !isBroadcastable(extra.toArray(EMPTY_COMPONENT_ARRAY))) return false;
       }
+      return true;
     }
 
-    private void sendPacket(final int action, final ProxiedPlayer... viewers) {
-      synchronized(this.bar) {
-        final int lastAction = this.bar.getAction();
-        this.bar.setAction(action);
-        for(final ProxiedPlayer viewer : viewers) {
-          viewer.unsafe().sendPacket(this.bar);
+    /**
+     * Finds a packet constructor, if packets can be broadcast.
+     *
+     * <p>Packet fields change between proxy versions, so a missing constructor only disables the broadcast.</p>
+     *
+     * @param packetClass a packet class
+     * @param parameterTypes the constructor parameter types
+     * @return a constructor or {@code null}
+     */
+    static @Nullable MethodHandle findPacketConstructor(final @NonNull Class<? extends DefinedPacket> packetClass, final @NonNull Class<?>@NonNull... parameterTypes) {
+      if(!SUPPORTED) return null;
+      try {
+        return lookup().findConstructor(packetClass, methodType(void.class, parameterTypes));
+      } catch(final NoSuchMethodException | IllegalAccessException error) {
+        return null;
+      }
+    }
+
+    // Errors for one player should not stop the others from receiving a packet
+    private static <P> void forEach(final @NonNull Collection<? extends P> players, final @NonNull Consumer<? super P> action) {
+      for(final P player : players) {
+        try {
+          action.accept(player);
+        } catch(final Throwable error) {
+          logError(error, "Failed to send packet to %s", player);
         }
-        this.bar.setAction(lastAction);
+      }
+    }
+
+    private static @Nullable ChannelHandlerContext findEncoder(final @NonNull ProxiedPlayer player) {
+      try {
+        final Object wrapper = PLAYER_GET_CHANNEL.invoke(player);
+        if(wrapper == null) return null;
+        // Packets are queued by the proxy while a player is configured, so only players in game are written to
+        if(CHANNEL_GET_ENCODE_PROTOCOL != null && CHANNEL_GET_ENCODE_PROTOCOL.invoke(wrapper) != Protocol.GAME) return null;
+
+        final Channel channel = (Channel) CHANNEL_GET_HANDLE.invoke(wrapper);
+        if(channel == null || !channel.isActive()) return null;
+
+        final ChannelHandlerContext context = channel.pipeline().context(ENCODER);
+        return context != null && context.handler() instanceof MessageToByteEncoder ? context : null;
+      } catch(final Throwable error) {
+        logError(error, "Failed to find packet encoder: %s", player);
+        return null;
       }
     }
   }
 
   static final class TabList extends Message implements Facet.TabList<ProxiedPlayer, BaseComponent[]> {
+    private static final @Nullable MethodHandle NEW_HEADER_FOOTER_PACKET = PacketBroadcast.findPacketConstructor(PlayerListHeaderFooter.class, String.class, String.class);
 
     @Override
     public void send(final ProxiedPlayer viewer, final BaseComponent@Nullable[] header, final BaseComponent@Nullable[] footer) {
@@ -270,5 +588,20 @@ class BungeeFacet<V extends CommandSender> extends FacetBase<V> {
         header == null ? EMPTY_COMPONENT_ARRAY : header,
         footer == null ? EMPTY_COMPONENT_ARRAY : footer);
     }
+
+    @Override
+    public void send(final @NonNull Collection<? extends ProxiedPlayer> viewers, final BaseComponent@Nullable[] header, final BaseComponent@Nullable[] footer) {
+      final BaseComponent[] headerOrEmpty = header == null ? EMPTY_COMPONENT_ARRAY : header;
+      final BaseComponent[] footerOrEmpty = footer == null ? EMPTY_COMPONENT_ARRAY : footer;
+      final boolean broadcast = NEW_HEADER_FOOTER_PACKET != null && PacketBroadcast.isBroadcastable(headerOrEmpty) && PacketBroadcast.isBroadcastable(footerOrEmpty);
+      final List<ProxiedPlayer> players = PacketBroadcast.partition(viewers, broadcast ? Integer.MAX_VALUE : -1, viewer -> this.send(viewer, header, footer));
+      if(players.isEmpty()) return;
+
+      try {
+        PacketBroadcast.sendPacket(players, (DefinedPacket) NEW_HEADER_FOOTER_PACKET.invoke(ComponentSerializer.toString(headerOrEmpty), ComponentSerializer.toString(footerOrEmpty)));
+      } catch(final Throwable error) {
+        logError(error, "Failed to create tab list packet");
+      }
+    }
   }
 }
@@ -155,6 +155,33 @@ public interface Facet<V> {
      * @since 4.0.0
      */
     @Nullable M createMessage(final @NonNull V viewer, final @NonNull Component message);
+
+    /**
+     * Gets the protocol bucket of a viewer.
+     *
+     * <p>Viewers in the same bucket must receive equivalent messages from {@link #createMessage(Object, Component)},
+     * so a message created for one of them can be sent to all of them.</p>
+     *
+     * @param viewer a viewer
+     * @return a protocol bucket
+     * @since 4.0.0
+     */
+    default int protocolBucket(final @NonNull V viewer) {
+      return 0;
+    }
+
+    /**
+     * Gets whether messages created by this facet can be cached and sent again.
+     *
+     * <p>Facets should only opt in when messages are immutable, and only depend on the component and
+     * {@linkplain #protocolBucket(Object) protocol bucket} of a viewer.</p>
+     *
+     * @return if messages can be cached
+     * @since 4.0.0
+     */
+    default boolean isMessageCacheable() {
+      return false;
+    }
   }
 
   /**
@@ -175,6 +202,21 @@ public interface Facet<V> {
      * @since 4.0.0
      */
     void sendMessage(final @NonNull V viewer, final @NonNull Identity source, final @NonNull M message, final @NonNull MessageType type);
+
+    /**
+     * Sends a chat message to many viewers.
+     *
+     * @param viewers a collection of viewers
+     * @param source the sender's identity
+     * @param message a message
+     * @param type a message type
+     * @since 4.0.0
+     */
+    default void sendMessage(final @NonNull Collection<? extends V> viewers, final @NonNull Identity source, final @NonNull M message, final @NonNull MessageType type) {
+      for(final V viewer : viewers) {
+        this.sendMessage(viewer, source, message, type);
+      }
+    }
   }
 
   /**
@@ -223,6 +265,19 @@ public interface Facet<V> {
      * @since 4.0.0
      */
     void sendMessage(final @NonNull V viewer, final @NonNull M message);
+
+    /**
+     * Sends an action bar to many viewers.
+     *
+     * @param viewers a collection of viewers
+     * @param message a message
+     * @since 4.0.0
+     */
+    default void sendMessage(final @NonNull Collection<? extends V> viewers, final @NonNull M message) {
+      for(final V viewer : viewers) {
+        this.sendMessage(viewer, message);
+      }
+    }
   }
 
   /**
@@ -259,6 +314,19 @@ public interface Facet<V> {
      */
     void showTitle(final @NonNull V viewer, final @NonNull T title);
 
+    /**
+     * Shows a title to many viewers.
+     *
+     * @param viewers a collection of viewers
+     * @param title a title
+     * @since 4.0.0
+     */
+    default void showTitle(final @NonNull Collection<? extends V> viewers, final @NonNull T title) {
+      for(final V viewer : viewers) {
+        this.showTitle(viewer, title);
+      }
+    }
+
     /**
      * Clears a title.
      *
@@ -427,6 +495,20 @@ public interface Facet<V> {
        * @since 4.0.0
        */
       @NonNull B createBossBar(final @NonNull Collection<V> viewer);
+
+      /**
+       * Gets the protocol bucket of a viewer.
+       *
+       * <p>Viewers in the same bucket can share a boss bar, since its messages are created once for all of them.</p>
+       *
+       * @param viewer a viewer
+       * @return a protocol bucket
+       * @see Message#protocolBucket(Object)
+       * @since 4.0.0
+       */
+      default int protocolBucket(final @NonNull V viewer) {
+        return 0;
+      }
     }
 
     /**
@@ -688,5 +770,19 @@ public interface Facet<V> {
      * @since 4.0.0
      */
     void send(final V viewer, final @Nullable M header, final @Nullable M footer);
+
+    /**
+     * Update the tab list header and footer for many viewers.
+     *
+     * @param viewers a collection of viewers
+     * @param header header, null if should be left unchanged
+     * @param footer footer, null if should be left unchanged
+     * @since 4.0.0
+     */
+    default void send(final @NonNull Collection<? extends V> viewers, final @Nullable M header, final @Nullable M footer) {
+      for(final V viewer : viewers) {
+        this.send(viewer, header, footer);
+      }
+    }
   }
 }
@@ -23,53 +23,46 @@
  */
 package net.kyori.adventure.platform.facet;
 
-import java.util.HashSet;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.sound.SoundStop;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.title.Title;
-import net.kyori.adventure.translation.GlobalTranslator;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * An {@link Audience} that is implemented by {@link Facet}s.
  *
- * <p>This audience must support multiple viewers, although platforms do not use this feature yet.</p>
+ * <p>Facets are selected for each viewer, so viewers of the same audience may receive content in different formats.</p>
  *
  * @param <V> a viewer type
  * @see Facet
  * @since 4.0.0
  */
 public class FacetAudience<V> implements Audience, Closeable {
-  private final @NonNull Set<V> viewers;
-  private volatile @Nullable V viewer; // The first viewer is used for facet and message selection
+  private final @NonNull Map<V, FacetSet<V>> viewers;
+  private final @NonNull Function<V, FacetSet<V>> facets;
+  private final @NonNull FacetBroadcast<V> broadcast;
   private volatile @NonNull Locale locale;
 
-  private final Facet.@Nullable Chat<V, Object> chat;
-  private final Facet.@Nullable ActionBar<V, Object> actionBar;
-  private final Facet.@Nullable Title<V, Object, Object> title;
-  private final Facet.@Nullable Sound<V, Object> sound;
-  private final Facet.@Nullable Book<V, Object, Object> book;
-  private final Facet.BossBar.@Nullable Builder<V, Facet.BossBar<V>> bossBar;
-  private final @Nullable Map<BossBar, Facet.BossBar<V>> bossBars;
-  private final Facet.@Nullable TabList<V, Object> tabList;
+  private final @Nullable FacetBossBarRegistry<V> bossBars;
+  private final @NonNull Set<BossBar> shownBossBars;
 
   /**
    * Create a new facet-based audience.
@@ -84,7 +77,7 @@ public class FacetAudience<V> implements Audience, Closeable {
    * @param bossBar boss bar facet candidates
    * @since 4.0.0
    */
-  @SuppressWarnings({"unchecked", "rawtypes"}) // Without suppression, this constructor becomes unreadable
+  @SuppressWarnings("rawtypes") // Without suppression, this constructor becomes unreadable
   public FacetAudience(
     final @NonNull Collection<? extends V> viewers,
     final @Nullable Locale locale,
@@ -96,19 +89,40 @@ public class FacetAudience<V> implements Audience, Closeable {
     final @Nullable Collection<? extends Facet.BossBar.Builder> bossBar,
     final @Nullable Collection<? extends Facet.TabList> tabList
   ) {
-    this.viewers = new CopyOnWriteArraySet<>();
+    this(viewers, locale, viewer -> new FacetSet<>(viewer, chat, actionBar, title, sound, book, bossBar, tabList), bossBar == null ? null : new FacetBossBarRegistry<>());
+  }
+
+  /**
+   * Create a new facet-based audience, with facets from a shared table.
+   *
+   * @param viewers the viewers receiving content sent to this audience
+   * @param locale the locale of this audience
+   * @param facets a facet table
+   * @since 4.0.0
+   */
+  public FacetAudience(
+    final @NonNull Collection<? extends V> viewers,
+    final @Nullable Locale locale,
+    final @NonNull FacetTable<V> facets
+  ) {
+    this(viewers, locale, requireNonNull(facets, "facets")::resolve, facets.bossBars());
+  }
+
+  private FacetAudience(
+    final @NonNull Collection<? extends V> viewers,
+    final @Nullable Locale locale,
+    final @NonNull Function<V, FacetSet<V>> facets,
+    final @Nullable FacetBossBarRegistry<V> bossBars
+  ) {
+    this.viewers = new ConcurrentHashMap<>();
+    this.facets = facets;
+    this.broadcast = new FacetBroadcast<>(Collections.singleton(this));
     this.locale = locale == null ? Locale.US : locale;
+    this.bossBars = bossBars;
+    this.shownBossBars = Collections.newSetFromMap(Collections.synchronizedMap(new IdentityHashMap<>(4)));
     for(final V viewer : requireNonNull(viewers, "viewers")) {
       this.addViewer(viewer);
     }
-    this.chat = Facet.of(chat, this.viewer);
-    this.actionBar = Facet.of(actionBar, this.viewer);
-    this.title = Facet.of(title, this.viewer);
-    this.sound = Facet.of(sound, this.viewer);
-    this.book = Facet.of(book, this.viewer);
-    this.bossBar = Facet.of(bossBar, this.viewer);
-    this.bossBars = this.bossBar == null ? null : Collections.synchronizedMap(new IdentityHashMap<>(4));
-    this.tabList = Facet.of(tabList, this.viewer);
   }
 
   /**
@@ -118,9 +132,7 @@ public class FacetAudience<V> implements Audience, Closeable {
    * @since 4.0.0
    */
   public void addViewer(final @NonNull V viewer) {
-    if(this.viewers.add(viewer) && this.viewer == null) {
-      this.viewer = viewer;
-    }
+    this.viewers.computeIfAbsent(requireNonNull(viewer, "viewer"), this.facets);
   }
 
   /**
@@ -130,13 +142,10 @@ public class FacetAudience<V> implements Audience, Closeable {
    * @since 4.0.0
    */
   public void removeViewer(final @NonNull V viewer) {
-    if(this.viewers.remove(viewer) && this.viewer == viewer) {
-      this.viewer = this.viewers.isEmpty() ? null : this.viewers.iterator().next();
-    }
+    if(this.viewers.remove(viewer) == null || this.bossBars == null) return;
 
-    if(this.bossBars == null) return;
-    for(final Facet.BossBar<V> listener : this.bossBars.values()) {
-      listener.removeViewer(viewer);
+    for(final BossBar bar : this.shownBossBars()) {
+      this.bossBars.hide(bar, Collections.singletonList(viewer));
     }
   }
 
@@ -147,217 +156,155 @@ public class FacetAudience<V> implements Audience, Closeable {
    * @since 4.0.0
    */
   public void changeLocale(final @NonNull Locale locale) {
+    final Locale oldLocale = this.locale;
     this.locale = requireNonNull(locale, "locale");
+
+    // Boss bars are shared by viewers with the same locale, so move viewers to their new group
+    if(!locale.equals(oldLocale)) {
+      for(final BossBar bar : this.shownBossBars()) {
+        this.hideBossBar(bar);
+        this.showBossBar(bar);
+      }
+    }
   }
 
   @Override
   public void sendMessage(final @NonNull Identity source, final @NonNull Component original, final @NonNull MessageType type) {
-    if(this.chat == null) return;
-
-    final Object message = this.createMessage(original, this.chat);
-    if(message == null) return;
-
-    for(final V viewer : this.viewers) {
-      this.chat.sendMessage(viewer, source, message, type);
-    }
+    this.broadcast.sendMessage(source, original, type);
   }
 
   @Override
   public void sendActionBar(final @NonNull Component original) {
-    if(this.actionBar == null) return;
-
-    final Object message = this.createMessage(original, this.actionBar);
-    if(message == null) return;
-
-    for(final V viewer : this.viewers) {
-      this.actionBar.sendMessage(viewer, message);
-    }
+    this.broadcast.sendActionBar(original);
   }
 
   @Override
   public void playSound(final net.kyori.adventure.sound.@NonNull Sound original) {
-    if(this.sound == null) return;
+    for(final Map.Entry<V, FacetSet<V>> entry : this.viewers.entrySet()) {
+      final Facet.Sound<V, Object> sound = entry.getValue().sound();
+      if(sound == null) continue;
 
-    for(final V viewer : this.viewers) {
-      final Object position = this.sound.createPosition(viewer);
+      final Object position = sound.createPosition(entry.getKey());
       if(position == null) continue;
 
-      this.sound.playSound(viewer, original, position);
+      sound.playSound(entry.getKey(), original, position);
     }
   }
 
   @Override
   public void playSound(final net.kyori.adventure.sound.@NonNull Sound original, final double x, final double y, final double z) {
-    if(this.sound == null) return;
+    for(final Map.Entry<V, FacetSet<V>> entry : this.viewers.entrySet()) {
+      final Facet.Sound<V, Object> sound = entry.getValue().sound();
+      if(sound == null) continue;
 
-    final Object position = this.sound.createPosition(x, y, z);
-    for(final V viewer : this.viewers) {
-      this.sound.playSound(viewer, original, position);
+      sound.playSound(entry.getKey(), original, sound.createPosition(x, y, z));
     }
   }
 
   @Override
   public void stopSound(final @NonNull SoundStop original) {
-    if(this.sound == null) return;
+    for(final Map.Entry<V, FacetSet<V>> entry : this.viewers.entrySet()) {
+      final Facet.Sound<V, Object> sound = entry.getValue().sound();
+      if(sound == null) continue;
 
-    for(final V viewer : this.viewers) {
-      this.sound.stopSound(viewer, original);
+      sound.stopSound(entry.getKey(), original);
     }
   }
 
   @Override
   public void openBook(final net.kyori.adventure.inventory.@NonNull Book original) {
-    if(this.book == null) return;
-
-    final Object title = this.createMessage(original.title(), this.book);
-    final Object author = this.createMessage(original.author(), this.book);
-    final List<Object> pages = new LinkedList<>();
-    for(final Component originalPage : original.pages()) {
-      final Object page = this.createMessage(originalPage, this.book);
-      if(page != null) {
-        pages.add(page);
-      }
-    }
-    if(title == null || author == null || pages.isEmpty()) return;
-
-    final Object book = this.book.createBook(title, author, pages);
-    if(book == null) return;
-
-    for(final V viewer : this.viewers) {
-      this.book.openBook(viewer, book);
-    }
+    this.broadcast.openBook(original);
   }
 
   @Override
   public void showTitle(final net.kyori.adventure.title.@NonNull Title original) {
-    if(this.title == null) return;
-
-    final Object mainTitle = this.createMessage(original.title(), this.title);
-    final Object subTitle = this.createMessage(original.subtitle(), this.title);
-    final Title.@Nullable Times times = original.times();
-    final int inTicks = times == null ? -1 : this.title.toTicks(times.fadeIn());
-    final int stayTicks = times == null ? -1 : this.title.toTicks(times.stay());
-    final int outTicks = times == null ? -1 : this.title.toTicks(times.fadeOut());
-
-    final Object title = this.title.createTitle(mainTitle, subTitle, inTicks, stayTicks, outTicks);
-    if(title == null) return;
-
-    for(final V viewer : this.viewers) {
-      this.title.showTitle(viewer, title);
-    }
+    this.broadcast.showTitle(original);
   }
 
   @Override
   public void clearTitle() {
-    if(this.title == null) return;
+    for(final Map.Entry<V, FacetSet<V>> entry : this.viewers.entrySet()) {
+      final Facet.Title<V, Object, Object> title = entry.getValue().title();
+      if(title == null) continue;
 
-    for(final V viewer : this.viewers) {
-      this.title.clearTitle(viewer);
+      title.clearTitle(entry.getKey());
     }
   }
 
   @Override
   public void resetTitle() {
-    if(this.title == null) return;
+    for(final Map.Entry<V, FacetSet<V>> entry : this.viewers.entrySet()) {
+      final Facet.Title<V, Object, Object> title = entry.getValue().title();
+      if(title == null) continue;
 
-    for(final V viewer : this.viewers) {
-      this.title.resetTitle(viewer);
+      title.resetTitle(entry.getKey());
     }
   }
 
   @Override
   public void showBossBar(final @NonNull BossBar bar) {
     if(this.bossBars == null) return;
+    this.shownBossBars.add(bar);
 
-    Facet.BossBar<V> listener;
-    synchronized(this.bossBars) {
-      listener = this.bossBars.get(bar);
-      if(listener == null) {
-        listener = new FacetBossBarListener<>(this.bossBar.createBossBar(this.viewers), () -> this.locale);
-        this.bossBars.put(bar, listener);
-      }
-    }
+    // Viewers are partitioned by boss bar facet, each partition joins the shared boss bar for its locale
+    final Map<Facet.BossBar.Builder<V, Facet.BossBar<V>>, List<V>> partitions = new IdentityHashMap<>(2);
+    for(final Map.Entry<V, FacetSet<V>> entry : this.viewers.entrySet()) {
+      final Facet.BossBar.Builder<V, Facet.BossBar<V>> builder = entry.getValue().bossBar();
+      if(builder == null) continue;
 
-    if(listener.isEmpty()) {
-      listener.bossBarInitialized(bar);
-      bar.addListener(listener);
+      partitions.computeIfAbsent(builder, b -> new ArrayList<>()).add(entry.getKey());
     }
 
-    for(final V viewer : this.viewers) {
-      listener.addViewer(viewer);
+    for(final Map.Entry<Facet.BossBar.Builder<V, Facet.BossBar<V>>, List<V>> partition : partitions.entrySet()) {
+      this.bossBars.show(bar, this.locale, partition.getKey(), partition.getValue());
     }
   }
 
   @Override
   public void hideBossBar(final @NonNull BossBar bar) {
-    if(this.bossBars == null) return;
-
-    final Facet.BossBar<V> listener = this.bossBars.get(bar);
-    if(listener == null) return;
-
-    for(final V viewer : this.viewers) {
-      listener.removeViewer(viewer);
-    }
+    if(this.bossBars == null || !this.shownBossBars.remove(bar)) return;
 
-    if(listener.isEmpty() && this.bossBars.remove(bar) != null) {
-      bar.removeListener(listener);
-      listener.close();
-    }
+    this.bossBars.hide(bar, new ArrayList<>(this.viewers.keySet()));
   }
 
   @Override
   public void sendPlayerListHeader(final @NonNull Component header) {
-    if(this.tabList != null) {
-      final Object headerFormatted = this.createMessage(header, this.tabList);
-      if(headerFormatted == null) return;
-      for(final V viewer : this.viewers) {
-        this.tabList.send(viewer, headerFormatted, null);
-      }
-    }
+    this.broadcast.sendPlayerListHeader(header);
   }
 
   @Override
   public void sendPlayerListFooter(final @NonNull Component footer) {
-    if(this.tabList != null) {
-      final Object footerFormatted = this.createMessage(footer, this.tabList);
-      if(footerFormatted == null) return;
-      for(final V viewer : this.viewers) {
-        this.tabList.send(viewer, null, footerFormatted);
-      }
-    }
+    this.broadcast.sendPlayerListFooter(footer);
   }
 
   @Override
   public void sendPlayerListHeaderAndFooter(final @NonNull Component header, final @NonNull Component footer) {
-    if(this.tabList != null) {
-      final Object headerFormatted = this.createMessage(header, this.tabList);
-      final Object footerFormatted = this.createMessage(footer, this.tabList);
-      if(headerFormatted == null || footerFormatted == null) return;
-
-      for(final V viewer : this.viewers) {
-        this.tabList.send(viewer, headerFormatted, footerFormatted);
-      }
-    }
+    this.broadcast.sendPlayerListHeaderAndFooter(header, footer);
   }
 
   @Override
   public void close() {
-    if(this.bossBars != null) {
-      for(final BossBar bar : new HashSet<>(this.bossBars.keySet())) {
-        this.hideBossBar(bar);
-      }
-      this.bossBars.clear();
+    for(final BossBar bar : this.shownBossBars()) {
+      this.hideBossBar(bar);
     }
 
-    for(final V viewer : this.viewers) {
+    for(final V viewer : this.viewers.keySet()) {
       this.removeViewer(viewer);
     }
     this.viewers.clear();
   }
 
-  private @Nullable Object createMessage(final @NonNull Component original, final Facet.@NonNull Message<V, Object> facet) {
-    final Component message = GlobalTranslator.render(original, this.locale);
-    final V viewer = this.viewer;
-    return viewer == null ? null : facet.createMessage(viewer, message);
+  private @NonNull List<BossBar> shownBossBars() {
+    synchronized(this.shownBossBars) {
+      return new ArrayList<>(this.shownBossBars);
+    }
+  }
+
+  @NonNull Locale locale() {
+    return this.locale;
+  }
+
+  @NonNull Map<V, FacetSet<V>> viewers() {
+    return this.viewers;
   }
 }
@@ -0,0 +1,154 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+/**
+ * An index of audiences by a key, such as a permission node.
+ *
+ * <p>Membership is computed once per key and then kept up to date as viewers are added, removed, or refreshed.
+ * Each key is also recomputed after a time-to-live, for changes that no viewer event reports.</p>
+ *
+ * <p>The number of keys is bounded, and the least recently used key is evicted when the index is full.</p>
+ *
+ * @param <K> a key type
+ * @param <V> a viewer type
+ * @param <A> an audience type
+ */
+final class FacetAudienceIndex<K, V, A extends FacetAudience<V>> {
+  private final Map<V, A> viewers;
+  private final BiPredicate<V, K> predicate;
+  private final long ttl;
+  private final Map<K, Members<A>> members;
+
+  /**
+   * Create a new index.
+   *
+   * @param viewers a live map of viewers to their audiences
+   * @param predicate a predicate that tests whether a viewer belongs to a key
+   * @param ttl the time-to-live of each key, in milliseconds
+   * @param size the maximum number of keys
+   */
+  FacetAudienceIndex(final @NonNull Map<V, A> viewers, final @NonNull BiPredicate<V, K> predicate, final long ttl, final int size) {
+    this.viewers = viewers;
+    this.predicate = predicate;
+    this.ttl = TimeUnit.MILLISECONDS.toNanos(ttl);
+    this.members = FacetRenderer.bounded(size);
+  }
+
+  /**
+   * Gets the audiences of a key.
+   *
+   * @param key a key
+   * @return a live view of the audiences
+   */
+  @NonNull Iterable<A> audiences(final @NonNull K key) {
+    return () -> this.members(key).iterator();
+  }
+
+  /**
+   * Updates the membership of a viewer for every key.
+   *
+   * @param viewer a viewer
+   * @param audience the audience of the viewer
+   */
+  void refresh(final @NonNull V viewer, final @NonNull A audience) {
+    for(final Map.Entry<K, Members<A>> entry : this.entries()) {
+      if(this.predicate.test(viewer, entry.getKey())) {
+        this.add(entry.getValue(), viewer, audience);
+      } else {
+        entry.getValue().audiences.remove(audience);
+      }
+    }
+  }
+
+  /**
+   * Removes an audience from every key.
+   *
+   * @param audience an audience
+   */
+  void remove(final @NonNull A audience) {
+    for(final Map.Entry<K, Members<A>> entry : this.entries()) {
+      entry.getValue().audiences.remove(audience);
+    }
+  }
+
+  /**
+   * Forces every key to be recomputed on its next use.
+   */
+  void invalidate() {
+    for(final Map.Entry<K, Members<A>> entry : this.entries()) {
+      entry.getValue().refreshed = 0;
+    }
+  }
+
+  private @NonNull Set<A> members(final @NonNull K key) {
+    final Members<A> members = this.members.computeIfAbsent(key, k -> new Members<>());
+    final long now = System.nanoTime();
+    if(members.refreshed == 0 || now - members.refreshed >= this.ttl) {
+      synchronized(members) {
+        if(members.refreshed == 0 || now - members.refreshed >= this.ttl) {
+          for(final Map.Entry<V, A> entry : this.viewers.entrySet()) {
+            if(this.predicate.test(entry.getKey(), key)) {
+              this.add(members, entry.getKey(), entry.getValue());
+            } else {
+              members.audiences.remove(entry.getValue());
+            }
+          }
+          members.refreshed = now == 0 ? 1 : now;
+        }
+      }
+    }
+    return members.audiences;
+  }
+
+  // A viewer can be removed while its membership is computed, so it is checked again after it is added
+  private void add(final @NonNull Members<A> members, final @NonNull V viewer, final @NonNull A audience) {
+    members.audiences.add(audience);
+    if(this.viewers.get(viewer) != audience) {
+      members.audiences.remove(audience);
+    }
+  }
+
+  // Copied so that the predicate is not tested while the map is locked
+  private @NonNull List<Map.Entry<K, Members<A>>> entries() {
+    synchronized(this.members) {
+      return new ArrayList<>(this.members.entrySet());
+    }
+  }
+
+  static final class Members<A> {
+    final Set<A> audiences = ConcurrentHashMap.newKeySet();
+    volatile long refreshed;
+  }
+}
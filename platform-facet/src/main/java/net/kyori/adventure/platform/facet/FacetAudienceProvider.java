@@ -54,12 +54,16 @@ import static java.util.Objects.requireNonNull;
  * @since 4.0.0
  */
 public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> implements AudienceProvider, ForwardingAudience {
+  private final Audience all;
   private final Audience console;
   private final Audience player;
   private final Map<V, A> viewers;
   private final Map<UUID, A> players;
   private final Set<A> consoles;
   private final A empty;
+  private final @Nullable FacetAudienceIndex<String, V, A> permissions;
+  private final FacetAudienceIndex<Key, V, A> worlds;
+  private final FacetAudienceIndex<String, V, A> servers;
   private volatile boolean closed;
 
   /**
@@ -71,9 +75,16 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> imple
     this.viewers = new ConcurrentHashMap<>();
     this.players = new ConcurrentHashMap<>();
     this.consoles = new CopyOnWriteArraySet<>();
-    this.console = Audience.audience(this.consoles);
-    this.player = Audience.audience(this.players.values());
+    this.all = new FacetBroadcast<>(this.viewers.values());
+    this.console = new FacetBroadcast<>(this.consoles);
+    this.player = new FacetBroadcast<>(this.players.values());
     this.empty = this.createAudience(Collections.emptyList());
+    final int permissionTtl = Knob.getInteger("permissionCacheTtl", 1000);
+    final int indexSize = Math.max(1, Knob.getInteger("audienceIndexSize", 256));
+    this.permissions = permissionTtl <= 0 ? null : new FacetAudienceIndex<>(this.viewers, this::hasPermission, permissionTtl, indexSize);
+    // Worlds and servers are only changed by viewer events, which refresh the index
+    this.worlds = new FacetAudienceIndex<>(this.viewers, this::isInWorld, Long.MAX_VALUE, indexSize);
+    this.servers = new FacetAudienceIndex<>(this.viewers, this::isOnServer, Long.MAX_VALUE, indexSize);
     this.closed = false;
   }
 
@@ -93,6 +104,7 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> imple
     } else if(this.isConsole(viewer)) {
       this.consoles.add(audience);
     }
+    this.refreshViewer(viewer, audience);
   }
 
   /**
@@ -110,9 +122,46 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> imple
     } else if(this.isConsole(viewer)) {
       this.consoles.remove(audience);
     }
+    if(this.permissions != null) {
+      this.permissions.remove(audience);
+    }
+    this.worlds.remove(audience);
+    this.servers.remove(audience);
     audience.close();
   }
 
+  /**
+   * Refreshes the indexed state of a viewer, such as after their world or permissions change.
+   *
+   * @param viewer a viewer
+   * @since 4.0.0
+   */
+  public void refreshViewer(final @NonNull V viewer) {
+    final A audience = this.viewers.get(viewer);
+    if(audience != null) {
+      this.refreshViewer(viewer, audience);
+    }
+  }
+
+  private void refreshViewer(final @NonNull V viewer, final @NonNull A audience) {
+    if(this.permissions != null) {
+      this.permissions.refresh(viewer, audience);
+    }
+    this.worlds.refresh(viewer, audience);
+    this.servers.refresh(viewer, audience);
+  }
+
+  /**
+   * Refreshes the indexed permissions of every viewer, the next time they are used.
+   *
+   * @since 4.0.0
+   */
+  public void refreshPermissions() {
+    if(this.permissions != null) {
+      this.permissions.invalidate();
+    }
+  }
+
   /**
    * Changes a viewer's locale.
    *
@@ -185,7 +234,7 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> imple
 
   @Override
   public @NonNull Audience all() {
-    return this;
+    return this.all;
   }
 
   @Override
@@ -211,22 +260,25 @@ public abstract class FacetAudienceProvider<V, A extends FacetAudience<V>> imple
    * @since 4.0.0
    */
   public @NonNull Audience filter(final @NonNull Predicate<V> predicate) {
-    return Audience.audience(filter(this.viewers.entrySet(), entry -> predicate.test(entry.getKey()), Map.Entry::getValue));
+    return new FacetBroadcast<>(filter(this.viewers.entrySet(), entry -> predicate.test(entry.getKey()), Map.Entry::getValue));
   }
 
   @Override
   public @NonNull Audience permission(final @NonNull String permission) {
+    if(this.permissions != null) {
+      return new FacetBroadcast<>(this.permissions.audiences(requireNonNull(permission, "permission")));
+    }
     return this.filter(viewer -> this.hasPermission(viewer, permission));
   }
 
   @Override
   public @NonNull Audience world(final @NonNull Key world) {
-    return this.filter(viewer -> this.isInWorld(viewer, world));
+    return new FacetBroadcast<>(this.worlds.audiences(requireNonNull(world, "world")));
   }
 
   @Override
   public @NonNull Audience server(final @NonNull String serverName) {
-    return this.filter(viewer -> this.isOnServer(viewer, serverName));
+    return new FacetBroadcast<>(this.servers.audiences(requireNonNull(serverName, "server")));
   }
 
   @Override
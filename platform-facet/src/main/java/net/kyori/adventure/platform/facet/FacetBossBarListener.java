@@ -25,17 +25,36 @@ package net.kyori.adventure.platform.facet;
 
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.translation.GlobalTranslator;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Locale;
 import java.util.Set;
 import java.util.function.Supplier;
 
+/**
+ * A boss bar listener that renders names for a locale, and holds back updates until the next {@linkplain FacetTicker#tick() tick}.
+ *
+ * @param <V> a viewer type
+ */
 class FacetBossBarListener<V> implements Facet.BossBar<V> {
+  private static final int MAX_HELD_TICKS = 20; // Small progress changes are sent after a second at most
+
   private final Facet.BossBar<V> facet;
   private final Supplier<Locale> locale;
 
+  // Guarded by this, pending values are null (or NaN) when there is nothing to send
+  private @Nullable BossBar bar;
+  private @Nullable Component name;
+  private @Nullable Component sentName;
+  private float progress = Float.NaN;
+  private float sentProgress;
+  private int heldTicks;
+  private BossBar.@Nullable Color color;
+  private BossBar.@Nullable Color sentColor;
+  private BossBar.@Nullable Overlay overlay;
+  private BossBar.@Nullable Overlay sentOverlay;
+
   FacetBossBarListener(final Facet.@NonNull BossBar<V> facet, final @NonNull Supplier<Locale> locale) {
     this.facet = facet;
     this.locale = locale;
@@ -43,33 +62,124 @@ class FacetBossBarListener<V> implements Facet.BossBar<V> {
 
   @Override
   public void bossBarInitialized(final @NonNull BossBar bar) {
-    this.facet.bossBarInitialized(bar);
-    this.bossBarNameChanged(bar, bar.name(), bar.name()); // Redo name change with translation
+    synchronized(this) {
+      FacetTicker.unmarkDirty(this);
+      this.bar = bar;
+      this.name = null;
+      this.sentName = bar.name();
+      this.progress = Float.NaN;
+      this.sentProgress = bar.progress();
+      this.heldTicks = 0;
+      this.color = null;
+      this.sentColor = bar.color();
+      this.overlay = null;
+      this.sentOverlay = bar.overlay();
+
+      this.facet.bossBarInitialized(bar);
+      this.facet.bossBarNameChanged(bar, bar.name(), FacetRenderer.render(bar.name(), this.locale.get())); // Redo name change with translation
+    }
   }
 
   @Override
   public void bossBarNameChanged(final @NonNull BossBar bar, final @NonNull Component oldName, final @NonNull Component newName) {
-    this.facet.bossBarNameChanged(bar, oldName, GlobalTranslator.render(newName, this.locale.get()));
+    synchronized(this) {
+      this.bar = bar;
+      this.name = newName;
+    }
+    this.changed();
   }
 
   @Override
   public void bossBarProgressChanged(final @NonNull BossBar bar, final float oldPercent, final float newPercent) {
-    this.facet.bossBarProgressChanged(bar, oldPercent, newPercent);
+    synchronized(this) {
+      this.bar = bar;
+      this.progress = newPercent;
+    }
+    this.changed();
   }
 
   @Override
   public void bossBarColorChanged(final @NonNull BossBar bar, final BossBar.@NonNull Color oldColor, final BossBar.@NonNull Color newColor) {
-    this.facet.bossBarColorChanged(bar, oldColor, newColor);
+    synchronized(this) {
+      this.bar = bar;
+      this.color = newColor;
+    }
+    this.changed();
   }
 
   @Override
   public void bossBarOverlayChanged(final @NonNull BossBar bar, final BossBar.@NonNull Overlay oldOverlay, final BossBar.@NonNull Overlay newOverlay) {
-    this.facet.bossBarOverlayChanged(bar, oldOverlay, newOverlay);
+    synchronized(this) {
+      this.bar = bar;
+      this.overlay = newOverlay;
+    }
+    this.changed();
+  }
+
+  private void changed() {
+    if(FacetTicker.isTicking()) {
+      FacetTicker.markDirty(this);
+    } else {
+      this.flush(true);
+    }
+  }
+
+  /**
+   * Sends the latest value of each pending update.
+   *
+   * <p>Small progress changes are held back, unless forced or held for too long.</p>
+   *
+   * @param force if held back progress changes should be sent
+   * @return if a progress change is still held back
+   */
+  boolean flush(final boolean force) {
+    synchronized(this) {
+      final BossBar bar = this.bar;
+      if(bar == null) return false;
+
+      if(this.name != null) {
+        this.facet.bossBarNameChanged(bar, this.sentName == null ? this.name : this.sentName, FacetRenderer.render(this.name, this.locale.get()));
+        this.sentName = this.name;
+        this.name = null;
+      }
+
+      boolean held = false;
+      final float progress = this.progress;
+      if(!Float.isNaN(progress) && progress != this.sentProgress) {
+        // Small changes are held back until the progress moves far enough, or they have been held for too long
+        if(force || progress == 0f || progress == 1f || Math.abs(progress - this.sentProgress) >= FacetTicker.minProgressDelta() || ++this.heldTicks >= MAX_HELD_TICKS) {
+          this.facet.bossBarProgressChanged(bar, this.sentProgress, progress);
+          this.sentProgress = progress;
+        } else {
+          held = true;
+        }
+      }
+      if(!held) {
+        this.progress = Float.NaN;
+        this.heldTicks = 0;
+      }
+
+      if(this.color != null && this.color != this.sentColor) {
+        this.facet.bossBarColorChanged(bar, this.sentColor == null ? this.color : this.sentColor, this.color);
+        this.sentColor = this.color;
+      }
+      this.color = null;
+
+      if(this.overlay != null && this.overlay != this.sentOverlay) {
+        this.facet.bossBarOverlayChanged(bar, this.sentOverlay == null ? this.overlay : this.sentOverlay, this.overlay);
+        this.sentOverlay = this.overlay;
+      }
+      this.overlay = null;
+      return held;
+    }
   }
 
   @Override
   public void bossBarFlagsChanged(final @NonNull BossBar bar, final @NonNull Set<BossBar.Flag> flagsAdded, final @NonNull Set<BossBar.Flag> flagsRemoved) {
-    this.facet.bossBarFlagsChanged(bar, flagsAdded, flagsRemoved);
+    synchronized(this) {
+      this.flush(true); // Changes held back for the next tick were made first, so they are sent first
+      this.facet.bossBarFlagsChanged(bar, flagsAdded, flagsRemoved);
+    }
   }
 
   @Override
@@ -89,6 +199,10 @@ class FacetBossBarListener<V> implements Facet.BossBar<V> {
 
   @Override
   public void close() {
+    synchronized(this) {
+      this.bar = null; // Nothing is sent after closing, even when still marked dirty
+    }
+    FacetTicker.unmarkDirty(this);
     this.facet.close();
   }
 }
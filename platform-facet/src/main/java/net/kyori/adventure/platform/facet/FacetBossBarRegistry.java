@@ -0,0 +1,116 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import net.kyori.adventure.bossbar.BossBar;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A registry of the boss bars shown to viewers, shared by many audiences.
+ *
+ * <p>Viewers of a boss bar are grouped by locale, facet and protocol bucket, and each group has one boss bar facet
+ * with every viewer, instead of one for each audience.</p>
+ *
+ * @param <V> a viewer type
+ */
+final class FacetBossBarRegistry<V> {
+  private final Map<BossBar, Map<List<Object>, FacetBossBarListener<V>>> bars = new IdentityHashMap<>();
+
+  /**
+   * Shows a boss bar to viewers.
+   *
+   * @param bar a boss bar
+   * @param locale the locale of the viewers
+   * @param builder the boss bar facet of the viewers
+   * @param viewers a collection of viewers
+   */
+  synchronized void show(final @NonNull BossBar bar, final @NonNull Locale locale, final Facet.BossBar.@NonNull Builder<V, Facet.BossBar<V>> builder, final @NonNull Collection<V> viewers) {
+    final Map<List<Object>, FacetBossBarListener<V>> groups = this.bars.computeIfAbsent(bar, b -> new HashMap<>(2));
+
+    // Messages of a boss bar are created once for all of its viewers, so viewers are also grouped by protocol bucket
+    final Map<Integer, List<V>> buckets = new LinkedHashMap<>(2);
+    for(final V viewer : viewers) {
+      buckets.computeIfAbsent(builder.protocolBucket(viewer), b -> new ArrayList<>()).add(viewer);
+    }
+
+    for(final Map.Entry<Integer, List<V>> bucket : buckets.entrySet()) {
+      final List<Object> key = Arrays.asList(locale, builder, bucket.getKey());
+
+      FacetBossBarListener<V> listener = groups.get(key);
+      if(listener == null) {
+        listener = new FacetBossBarListener<>(builder.createBossBar(new ArrayList<>(bucket.getValue())), () -> locale);
+        groups.put(key, listener);
+      }
+
+      if(listener.isEmpty()) {
+        listener.bossBarInitialized(bar);
+        bar.addListener(listener);
+      }
+
+      for(final V viewer : bucket.getValue()) {
+        listener.addViewer(viewer);
+      }
+    }
+  }
+
+  /**
+   * Hides a boss bar from viewers.
+   *
+   * @param bar a boss bar
+   * @param viewers a collection of viewers
+   */
+  synchronized void hide(final @NonNull BossBar bar, final @NonNull Collection<V> viewers) {
+    final Map<List<Object>, FacetBossBarListener<V>> groups = this.bars.get(bar);
+    if(groups == null) return;
+
+    final Iterator<FacetBossBarListener<V>> iterator = groups.values().iterator();
+    while(iterator.hasNext()) {
+      final FacetBossBarListener<V> listener = iterator.next();
+      for(final V viewer : viewers) {
+        listener.removeViewer(viewer);
+      }
+
+      if(listener.isEmpty()) {
+        bar.removeListener(listener);
+        listener.close();
+        iterator.remove();
+      }
+    }
+
+    if(groups.isEmpty()) {
+      this.bars.remove(bar);
+    }
+  }
+}
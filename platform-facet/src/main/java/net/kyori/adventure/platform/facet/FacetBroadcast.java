@@ -0,0 +1,205 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import net.kyori.adventure.audience.MessageType;
+import net.kyori.adventure.identity.Identified;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An audience that broadcasts to many {@link FacetAudience}s.
+ *
+ * <p>Viewers are grouped by locale, selected facet, and {@linkplain Facet.Message#protocolBucket(Object) protocol bucket},
+ * so each message is rendered and created once per group instead of once per viewer.</p>
+ *
+ * @param <V> a viewer type
+ */
+final class FacetBroadcast<V> implements ForwardingAudience {
+  private final Iterable<? extends FacetAudience<V>> audiences;
+
+  FacetBroadcast(final @NonNull Iterable<? extends FacetAudience<V>> audiences) {
+    this.audiences = requireNonNull(audiences, "audiences");
+  }
+
+  @Override
+  public @NonNull Iterable<? extends Audience> audiences() {
+    return this.audiences;
+  }
+
+  @Override
+  public void sendMessage(final @NonNull Identified source, final @NonNull Component message, final @NonNull MessageType type) {
+    this.sendMessage(source.identity(), message, type);
+  }
+
+  @Override
+  public void sendMessage(final @NonNull Identity source, final @NonNull Component original, final @NonNull MessageType type) {
+    for(final Group<V, Facet.Chat<V, Object>> group : this.group(FacetSet::chat)) {
+      final Object message = group.createMessage(original);
+      if(message == null) continue;
+
+      group.facet.sendMessage(group.viewers, source, message, type);
+    }
+  }
+
+  @Override
+  public void sendActionBar(final @NonNull Component original) {
+    for(final Group<V, Facet.ActionBar<V, Object>> group : this.group(FacetSet::actionBar)) {
+      final Object message = group.createMessage(original);
+      if(message == null) continue;
+
+      group.facet.sendMessage(group.viewers, message);
+    }
+  }
+
+  @Override
+  public void openBook(final net.kyori.adventure.inventory.@NonNull Book original) {
+    for(final Group<V, Facet.Book<V, Object, Object>> group : this.group(FacetSet::book)) {
+      final Object title = group.createMessage(original.title());
+      final Object author = group.createMessage(original.author());
+      final List<Object> pages = new LinkedList<>();
+      for(final Component originalPage : original.pages()) {
+        final Object page = group.createMessage(originalPage);
+        if(page != null) {
+          pages.add(page);
+        }
+      }
+      if(title == null || author == null || pages.isEmpty()) continue;
+
+      final Object book = group.facet.createBook(title, author, pages);
+      if(book == null) continue;
+
+      for(final V viewer : group.viewers) {
+        group.facet.openBook(viewer, book);
+      }
+    }
+  }
+
+  @Override
+  public void showTitle(final @NonNull Title original) {
+    for(final Group<V, Facet.Title<V, Object, Object>> group : this.group(FacetSet::title)) {
+      final Object mainTitle = group.createMessage(original.title());
+      final Object subTitle = group.createMessage(original.subtitle());
+      final Title.@Nullable Times times = original.times();
+      final int inTicks = times == null ? -1 : group.facet.toTicks(times.fadeIn());
+      final int stayTicks = times == null ? -1 : group.facet.toTicks(times.stay());
+      final int outTicks = times == null ? -1 : group.facet.toTicks(times.fadeOut());
+
+      final Object title = group.facet.createTitle(mainTitle, subTitle, inTicks, stayTicks, outTicks);
+      if(title == null) continue;
+
+      group.facet.showTitle(group.viewers, title);
+    }
+  }
+
+  @Override
+  public void sendPlayerListHeader(final @NonNull Component header) {
+    for(final Group<V, Facet.TabList<V, Object>> group : this.group(FacetSet::tabList)) {
+      final Object headerFormatted = group.createMessage(header);
+      if(headerFormatted == null) continue;
+
+      group.facet.send(group.viewers, headerFormatted, null);
+    }
+  }
+
+  @Override
+  public void sendPlayerListFooter(final @NonNull Component footer) {
+    for(final Group<V, Facet.TabList<V, Object>> group : this.group(FacetSet::tabList)) {
+      final Object footerFormatted = group.createMessage(footer);
+      if(footerFormatted == null) continue;
+
+      group.facet.send(group.viewers, null, footerFormatted);
+    }
+  }
+
+  @Override
+  public void sendPlayerListHeaderAndFooter(final @NonNull Component header, final @NonNull Component footer) {
+    for(final Group<V, Facet.TabList<V, Object>> group : this.group(FacetSet::tabList)) {
+      final Object headerFormatted = group.createMessage(header);
+      final Object footerFormatted = group.createMessage(footer);
+      if(headerFormatted == null || footerFormatted == null) continue;
+
+      group.facet.send(group.viewers, headerFormatted, footerFormatted);
+    }
+  }
+
+  /**
+   * Groups the viewers of every audience by locale, facet, and protocol bucket.
+   *
+   * @param selector a function to get a facet from the facets of a viewer
+   * @param <F> a facet type
+   * @return a collection of groups
+   */
+  private <F extends Facet.Message<V, Object>> @NonNull Collection<Group<V, F>> group(final @NonNull Function<FacetSet<V>, F> selector) {
+    final Map<List<Object>, Group<V, F>> groups = new LinkedHashMap<>();
+    for(final FacetAudience<V> audience : this.audiences) {
+      final Locale locale = audience.locale();
+      for(final Map.Entry<V, FacetSet<V>> entry : audience.viewers().entrySet()) {
+        final F facet = selector.apply(entry.getValue());
+        if(facet == null) continue;
+
+        final V viewer = entry.getKey();
+        final List<Object> key = Arrays.asList(locale, facet, facet.protocolBucket(viewer));
+        groups.computeIfAbsent(key, k -> new Group<>(locale, facet, viewer)).viewers.add(viewer);
+      }
+    }
+    return groups.values();
+  }
+
+  private static final class Group<V, F extends Facet.Message<V, Object>> {
+    private final Locale locale;
+    private final F facet;
+    private final V viewer; // The first viewer is used for message creation
+    private final List<V> viewers;
+
+    Group(final @NonNull Locale locale, final @NonNull F facet, final @NonNull V viewer) {
+      this.locale = locale;
+      this.facet = facet;
+      this.viewer = viewer;
+      this.viewers = new ArrayList<>();
+    }
+
+    @Nullable Object createMessage(final @NonNull Component original) {
+      final Component message = FacetRenderer.render(original, this.locale);
+      return FacetMessageCache.createMessage(this.facet, this.viewer, message);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded cache of messages created by {@link Facet.Message}s.
+ *
+ * <p>Only facets that {@linkplain Facet.Message#isMessageCacheable() opt in} are cached. The least recently used
+ * message is evicted when the cache is full.</p>
+ *
+ * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.messageCacheSize=<size>}, to change the size of the cache,
+ * or {@code 0} to disable it.</p>
+ */
+final class FacetMessageCache {
+  private FacetMessageCache() {
+  }
+
+  private static final int CACHE_SIZE = Math.max(0, Knob.getInteger("messageCacheSize", 512));
+  private static final Map<List<Object>, Object> MESSAGES = FacetRenderer.bounded(CACHE_SIZE);
+
+  /**
+   * Creates a message, or gets it from the cache.
+   *
+   * @param facet a facet
+   * @param viewer a viewer
+   * @param message a rendered message
+   * @param <V> a viewer type
+   * @return a message or {@code null}
+   */
+  static <V> @Nullable Object createMessage(final Facet.@NonNull Message<V, Object> facet, final @NonNull V viewer, final @NonNull Component message) {
+    if(CACHE_SIZE == 0 || !facet.isMessageCacheable()) {
+      return facet.createMessage(viewer, message);
+    }
+
+    final List<Object> key = Arrays.asList(message, facet, facet.protocolBucket(viewer));
+    Object created = MESSAGES.get(key);
+    if(created == null) {
+      created = facet.createMessage(viewer, message);
+      if(created != null) {
+        MESSAGES.put(key, created);
+      }
+    }
+    return created;
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.translation.GlobalTranslator;
+import net.kyori.adventure.translation.Translator;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Renders components for a locale before they are sent to viewers.
+ *
+ * <p>Components without any {@link TranslatableComponent}s are returned as-is. Other components are rendered
+ * by the {@link GlobalTranslator}, and the result is kept in a bounded cache for each locale.</p>
+ *
+ * <p>The cache is cleared when a source is added to or removed from the {@link GlobalTranslator}. Plugins that change
+ * the translations of an existing source should call {@link #invalidate()}.</p>
+ *
+ * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.renderCacheSize=<size>}, to change the size of the cache.</p>
+ *
+ * @since 4.0.0
+ */
+public final class FacetRenderer {
+  private FacetRenderer() {
+  }
+
+  private static final int CACHE_SIZE = Math.max(0, Knob.getInteger("renderCacheSize", 256));
+  private static final Map<Identity, Boolean> TRANSLATABLE = bounded(CACHE_SIZE * 4);
+  private static final Map<List<Object>, Component> RENDERED = bounded(CACHE_SIZE);
+  private static final AtomicLong HITS = new AtomicLong();
+  private static final AtomicLong MISSES = new AtomicLong();
+  private static volatile Object @NonNull[] sources = new Object[0];
+
+  /**
+   * Gets the number of renders that were served from the cache.
+   *
+   * @return the number of cache hits
+   * @since 4.0.0
+   */
+  public static long hits() {
+    return HITS.get();
+  }
+
+  /**
+   * Gets the number of renders that were not in the cache.
+   *
+   * <p>Components without translations are not counted.</p>
+   *
+   * @return the number of cache misses
+   * @since 4.0.0
+   */
+  public static long misses() {
+    return MISSES.get();
+  }
+
+  /**
+   * Clears the rendered components, so they are rendered again with the current translations.
+   *
+   * @since 4.0.0
+   */
+  public static void invalidate() {
+    RENDERED.clear();
+  }
+
+  /**
+   * Renders a component for a locale.
+   *
+   * @param component a component
+   * @param locale a locale
+   * @return a rendered component
+   */
+  static @NonNull Component render(final @NonNull Component component, final @NonNull Locale locale) {
+    if(!isTranslatable(component)) return component;
+    checkSources();
+
+    final List<Object> key = Arrays.asList(component, locale);
+    Component rendered = RENDERED.get(key);
+    if(rendered != null) {
+      HITS.incrementAndGet();
+      return rendered;
+    }
+
+    MISSES.incrementAndGet();
+    rendered = GlobalTranslator.render(component, locale);
+    RENDERED.put(key, rendered);
+    return rendered;
+  }
+
+  /**
+   * Clears the rendered components when the sources of the {@link GlobalTranslator} have changed.
+   */
+  private static void checkSources() {
+    final Object[] previous = sources;
+    int index = 0;
+    boolean changed = false;
+    for(final Translator source : GlobalTranslator.get().sources()) {
+      if(index >= previous.length || previous[index] != source) {
+        changed = true;
+        break;
+      }
+      index++;
+    }
+    if(!changed && index == previous.length) return;
+
+    final List<Object> current = new ArrayList<>();
+    for(final Translator source : GlobalTranslator.get().sources()) {
+      current.add(source);
+    }
+    sources = current.toArray();
+    invalidate();
+  }
+
+  /**
+   * Gets whether a component, its children or its hover text contains a {@link TranslatableComponent}.
+   *
+   * @param component a component
+   * @return if the component needs to be rendered
+   */
+  static boolean isTranslatable(final @NonNull Component component) {
+    // Components are immutable, so the same instance can be checked by identity
+    final Identity key = new Identity(component);
+    final Boolean cached = TRANSLATABLE.get(key);
+    if(cached != null) return cached;
+
+    final boolean translatable = find(component);
+    TRANSLATABLE.put(key, translatable);
+    return translatable;
+  }
+
+  private static boolean find(final @Nullable Component component) {
+    if(component == null) return false;
+    if(component instanceof TranslatableComponent) return true;
+
+    final HoverEvent<?> hover = component.hoverEvent();
+    if(hover != null) {
+      final Object value = hover.value();
+      if(value instanceof Component && find((Component) value)) return true;
+      if(value instanceof HoverEvent.ShowEntity && find(((HoverEvent.ShowEntity) value).name())) return true;
+    }
+
+    for(final Component child : component.children()) {
+      if(find(child)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Creates a synchronized map that evicts the least recently used entry when it is full.
+   *
+   * @param size the maximum size
+   * @param <K> a key type
+   * @param <T> a value type
+   * @return a bounded map
+   */
+  static <K, T> @NonNull Map<K, T> bounded(final int size) {
+    return Collections.synchronizedMap(new LinkedHashMap<K, T>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<K, T> eldest) {
+        return this.size() > size;
+      }
+    });
+  }
+
+  private static final class Identity {
+    private final Component component;
+
+    Identity(final @NonNull Component component) {
+      this.component = component;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+      return other instanceof Identity && ((Identity) other).component == this.component;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(this.component);
+    }
+  }
+}
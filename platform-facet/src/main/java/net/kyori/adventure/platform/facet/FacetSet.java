@@ -0,0 +1,92 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+
+/**
+ * The facets selected for a viewer.
+ *
+ * @param <V> a viewer type
+ */
+final class FacetSet<V> {
+  private final Facet.@Nullable Chat<V, Object> chat;
+  private final Facet.@Nullable ActionBar<V, Object> actionBar;
+  private final Facet.@Nullable Title<V, Object, Object> title;
+  private final Facet.@Nullable Sound<V, Object> sound;
+  private final Facet.@Nullable Book<V, Object, Object> book;
+  private final Facet.BossBar.@Nullable Builder<V, Facet.BossBar<V>> bossBar;
+  private final Facet.@Nullable TabList<V, Object> tabList;
+
+  @SuppressWarnings({"unchecked", "rawtypes"}) // Without suppression, this constructor becomes unreadable
+  FacetSet(
+    final @NonNull V viewer,
+    final @Nullable Collection<? extends Facet.Chat> chat,
+    final @Nullable Collection<? extends Facet.ActionBar> actionBar,
+    final @Nullable Collection<? extends Facet.Title> title,
+    final @Nullable Collection<? extends Facet.Sound> sound,
+    final @Nullable Collection<? extends Facet.Book> book,
+    final @Nullable Collection<? extends Facet.BossBar.Builder> bossBar,
+    final @Nullable Collection<? extends Facet.TabList> tabList
+  ) {
+    this.chat = Facet.of(chat, viewer);
+    this.actionBar = Facet.of(actionBar, viewer);
+    this.title = Facet.of(title, viewer);
+    this.sound = Facet.of(sound, viewer);
+    this.book = Facet.of(book, viewer);
+    this.bossBar = Facet.of(bossBar, viewer);
+    this.tabList = Facet.of(tabList, viewer);
+  }
+
+  Facet.@Nullable Chat<V, Object> chat() {
+    return this.chat;
+  }
+
+  Facet.@Nullable ActionBar<V, Object> actionBar() {
+    return this.actionBar;
+  }
+
+  Facet.@Nullable Title<V, Object, Object> title() {
+    return this.title;
+  }
+
+  Facet.@Nullable Sound<V, Object> sound() {
+    return this.sound;
+  }
+
+  Facet.@Nullable Book<V, Object, Object> book() {
+    return this.book;
+  }
+
+  Facet.BossBar.@Nullable Builder<V, Facet.BossBar<V>> bossBar() {
+    return this.bossBar;
+  }
+
+  Facet.@Nullable TabList<V, Object> tabList() {
+    return this.tabList;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A table of the facets selected for viewers.
+ *
+ * <p>Facets are selected once for each viewer class and protocol version, then shared by every
+ * viewer with the same key. Facet applicability must only depend on those two properties.</p>
+ *
+ * <p>Viewers with an unknown protocol version are not cached, since their version may not be known yet.</p>
+ *
+ * @param <V> a viewer type
+ * @see FacetAudience
+ * @since 4.0.0
+ */
+@SuppressWarnings("rawtypes") // Without suppression, this class becomes unreadable
+public final class FacetTable<V> {
+  private final @NonNull ToIntFunction<V> protocol;
+  private final @Nullable Collection<? extends Facet.Chat> chat;
+  private final @Nullable Collection<? extends Facet.ActionBar> actionBar;
+  private final @Nullable Collection<? extends Facet.Title> title;
+  private final @Nullable Collection<? extends Facet.Sound> sound;
+  private final @Nullable Collection<? extends Facet.Book> book;
+  private final @Nullable Collection<? extends Facet.BossBar.Builder> bossBar;
+  private final @Nullable Collection<? extends Facet.TabList> tabList;
+  private final @NonNull Map<List<Object>, FacetSet<V>> sets;
+  private final @Nullable FacetBossBarRegistry<V> bossBars;
+
+  /**
+   * Create a new facet table.
+   *
+   * @param protocol a function to get the protocol version of a viewer, {@code 0} if it is the same for every viewer of its class, or {@code -1} if it is not known yet
+   * @param chat chat facet candidates
+   * @param actionBar action bar facet candidates
+   * @param title title facet candidates
+   * @param sound sound facet candidates
+   * @param book book facet candidates
+   * @param bossBar boss bar facet candidates
+   * @param tabList tab list facet candidates
+   * @since 4.0.0
+   */
+  public FacetTable(
+    final @NonNull ToIntFunction<V> protocol,
+    final @Nullable Collection<? extends Facet.Chat> chat,
+    final @Nullable Collection<? extends Facet.ActionBar> actionBar,
+    final @Nullable Collection<? extends Facet.Title> title,
+    final @Nullable Collection<? extends Facet.Sound> sound,
+    final @Nullable Collection<? extends Facet.Book> book,
+    final @Nullable Collection<? extends Facet.BossBar.Builder> bossBar,
+    final @Nullable Collection<? extends Facet.TabList> tabList
+  ) {
+    this.protocol = requireNonNull(protocol, "protocol");
+    this.chat = chat;
+    this.actionBar = actionBar;
+    this.title = title;
+    this.sound = sound;
+    this.book = book;
+    this.bossBar = bossBar;
+    this.tabList = tabList;
+    this.sets = new ConcurrentHashMap<>();
+    this.bossBars = bossBar == null ? null : new FacetBossBarRegistry<>();
+  }
+
+  /**
+   * Gets the boss bars shown to viewers of this table, shared by every audience using it.
+   *
+   * @return a boss bar registry, or {@code null} if boss bars are not supported
+   */
+  @Nullable FacetBossBarRegistry<V> bossBars() {
+    return this.bossBars;
+  }
+
+  /**
+   * Gets the facets for a viewer, selecting them if this is the first viewer with its key.
+   *
+   * @param viewer a viewer
+   * @return the selected facets
+   */
+  @NonNull FacetSet<V> resolve(final @NonNull V viewer) {
+    final int protocol = this.protocol.applyAsInt(viewer);
+    if(protocol == -1) {
+      return this.select(viewer);
+    }
+    final List<Object> key = Arrays.asList(viewer.getClass(), protocol);
+    return this.sets.computeIfAbsent(key, k -> this.select(viewer));
+  }
+
+  private @NonNull FacetSet<V> select(final @NonNull V viewer) {
+    return new FacetSet<>(viewer, this.chat, this.actionBar, this.title, this.sound, this.book, this.bossBar, this.tabList);
+  }
+}
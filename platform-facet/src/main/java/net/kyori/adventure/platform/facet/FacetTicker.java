@@ -0,0 +1,129 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.facet;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces boss bar updates, so each kind of update is sent at most once per tick with its latest value.
+ *
+ * <p>Platforms call {@link #tick()} once per tick. Updates are sent immediately when no tick has happened
+ * recently, for example before a platform starts ticking or after it stops.</p>
+ *
+ * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.bossBarCoalescing=false}, to disable coalescing.</p>
+ *
+ * @since 4.0.0
+ */
+public final class FacetTicker {
+  private FacetTicker() {
+  }
+
+  private static final boolean ENABLED = Knob.isEnabled("bossBarCoalescing", true);
+  private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(1);
+  private static final Set<FacetBossBarListener<?>> DIRTY = ConcurrentHashMap.newKeySet();
+  private static volatile long lastTick = System.nanoTime() - TIMEOUT;
+  private static volatile float minProgressDelta = 0f;
+
+  /**
+   * Sends the pending updates of every boss bar.
+   *
+   * @since 4.0.0
+   */
+  public static void tick() {
+    lastTick = System.nanoTime();
+    if(DIRTY.isEmpty()) return;
+
+    List<FacetBossBarListener<?>> held = null;
+    final Iterator<FacetBossBarListener<?>> iterator = DIRTY.iterator();
+    while(iterator.hasNext()) {
+      final FacetBossBarListener<?> listener = iterator.next();
+      iterator.remove();
+      if(listener.flush(false)) {
+        if(held == null) held = new ArrayList<>();
+        held.add(listener);
+      }
+    }
+
+    // Listeners with held back progress are flushed again next tick
+    if(held != null) DIRTY.addAll(held);
+  }
+
+  /**
+   * Gets the minimum progress change that is sent to viewers.
+   *
+   * @return the minimum progress change
+   * @since 4.0.0
+   */
+  public static float minProgressDelta() {
+    return minProgressDelta;
+  }
+
+  /**
+   * Sets the minimum progress change that is sent to viewers.
+   *
+   * <p>Smaller changes are held back until the progress has moved far enough, reaches {@code 0} or {@code 1},
+   * or has been held back for a second.</p>
+   *
+   * @param delta the minimum progress change, between {@code 0} and {@code 1}
+   * @since 4.0.0
+   */
+  public static void minProgressDelta(final float delta) {
+    if(delta < 0f || delta > 1f) throw new IllegalArgumentException("delta must be between 0 and 1, was " + delta);
+    minProgressDelta = delta;
+  }
+
+  /**
+   * Gets whether updates should be held until the next tick.
+   *
+   * @return if updates are coalesced
+   */
+  static boolean isTicking() {
+    return ENABLED && System.nanoTime() - lastTick < TIMEOUT;
+  }
+
+  /**
+   * Marks a listener as having pending updates.
+   *
+   * @param listener a listener
+   */
+  static void markDirty(final @NonNull FacetBossBarListener<?> listener) {
+    DIRTY.add(listener);
+  }
+
+  /**
+   * Forgets a listener's pending updates.
+   *
+   * @param listener a listener
+   */
+  static void unmarkDirty(final @NonNull FacetBossBarListener<?> listener) {
+    DIRTY.remove(listener);
+  }
+}
@@ -66,6 +66,20 @@ public final class Knob {
     return System.getProperty(NAMESPACE + "." + key, Boolean.toString(defaultValue)).equalsIgnoreCase("true");
   }
 
+  /**
+   * Gets an integer setting.
+   *
+   * <p>Use the JVM flag, {@code -Dnet.kyori.adventure.<key>=<value>}, to change the setting.</p>
+   *
+   * @param key a key
+   * @param defaultValue the default value
+   * @return the setting
+   * @since 4.0.0
+   */
+  public static int getInteger(final @NonNull String key, final int defaultValue) {
+    return Integer.getInteger(NAMESPACE + "." + key, defaultValue);
+  }
+
   /**
    * Logs an error.
    *
@@ -25,6 +25,7 @@ package net.kyori.adventure.platform.spongeapi;
 
 import net.kyori.adventure.platform.facet.Facet;
 import net.kyori.adventure.platform.facet.FacetAudience;
+import net.kyori.adventure.platform.facet.FacetTable;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.effect.Viewer;
 import org.spongepowered.api.entity.living.player.Player;
@@ -56,8 +57,10 @@ final class SpongeAudience extends FacetAudience<MessageReceiver> {
     // () -> new ViaFacet.TabList<>(Player.class, VIA),
     SpongeFacet.TabList::new
   );
+  // Sponge facets only depend on the viewer class
+  private static final FacetTable<MessageReceiver> FACETS = new FacetTable<>(viewer -> 0 /* Same as the server */, CHAT, ACTION_BAR, TITLE, SOUND, BOOK, BOSS_BAR, TAB_LIST);
 
   SpongeAudience(final @NonNull Collection<MessageReceiver> viewers) {
-    super(viewers, null, CHAT, ACTION_BAR, TITLE, SOUND, BOOK, BOSS_BAR, TAB_LIST);
+    super(viewers, null, FACETS);
   }
 }
@@ -26,6 +26,7 @@ package net.kyori.adventure.platform.spongeapi;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.platform.facet.FacetAudienceProvider;
+import net.kyori.adventure.platform.facet.FacetTicker;
 import net.kyori.adventure.platform.facet.Knob;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -41,11 +42,14 @@ import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.EventManager;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
 import org.spongepowered.api.event.entity.living.humanoid.player.PlayerChangeClientSettingsEvent;
+import org.spongepowered.api.event.entity.living.humanoid.player.RespawnPlayerEvent;
 import org.spongepowered.api.event.game.state.GameStartingServerEvent;
 import org.spongepowered.api.event.game.state.GameStoppedServerEvent;
 import org.spongepowered.api.event.network.ClientConnectionEvent;
 import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.text.channel.MessageReceiver;
 import org.spongepowered.api.world.Locatable;
@@ -78,16 +82,23 @@ final class SpongeAudiencesImpl extends FacetAudienceProvider<MessageReceiver, S
     return INSTANCES.computeIfAbsent(plugin.getId(), id -> new SpongeAudiencesImpl(plugin, game));
   }
 
+  private final PluginContainer plugin;
   private final Game game;
   private final EventManager eventManager;
   private final EventListener eventListener;
+  private final Task tickTask;
 
   @Inject
   SpongeAudiencesImpl(final @NonNull PluginContainer plugin, final @NonNull Game game) {
+    this.plugin = plugin;
     this.game = game;
     this.eventManager = game.getEventManager();
     this.eventListener = new EventListener();
     this.eventManager.registerListeners(plugin, this.eventListener);
+    this.tickTask = game.getScheduler().createTaskBuilder()
+      .intervalTicks(1)
+      .execute(FacetTicker::tick)
+      .submit(plugin);
     if(game.isServerAvailable() && game.getState().compareTo(GameState.POST_INITIALIZATION) > 0) { // if we've already post-initialized
       this.addViewer(game.getServer().getConsole());
       for(final Player player : game.getServer().getOnlinePlayers()) {
@@ -163,6 +174,7 @@ final class SpongeAudiencesImpl extends FacetAudienceProvider<MessageReceiver, S
   @Override
   public void close() {
     this.eventManager.unregisterListeners(this.eventListener);
+    this.tickTask.cancel();
     super.close();
   }
 
@@ -182,6 +194,27 @@ final class SpongeAudiencesImpl extends FacetAudienceProvider<MessageReceiver, S
       SpongeAudiencesImpl.this.changeViewer(event.getTargetEntity(), event.getLocale());
     }
 
+    @Listener(order = Order.POST)
+    public void onTeleport(final MoveEntityEvent.@NonNull Teleport event) {
+      if(!(event.getTargetEntity() instanceof Player) || event.getFromTransform().getExtent().equals(event.getToTransform().getExtent())) return;
+
+      this.refreshLater((Player) event.getTargetEntity());
+    }
+
+    @Listener(order = Order.POST)
+    public void onRespawn(final @NonNull RespawnPlayerEvent event) {
+      if(event.getFromTransform().getExtent().equals(event.getToTransform().getExtent())) return;
+
+      this.refreshLater(event.getTargetEntity());
+    }
+
+    private void refreshLater(final @NonNull Player player) {
+      // The player is only moved once every listener has run, so refresh on the next tick
+      SpongeAudiencesImpl.this.game.getScheduler().createTaskBuilder()
+        .execute(() -> SpongeAudiencesImpl.this.refreshViewer(player))
+        .submit(SpongeAudiencesImpl.this.plugin);
+    }
+
     @Listener
     public void onStart(final @NonNull GameStartingServerEvent event) {
       SpongeAudiencesImpl.this.addViewer(SpongeAudiencesImpl.this.game.getServer().getConsole());
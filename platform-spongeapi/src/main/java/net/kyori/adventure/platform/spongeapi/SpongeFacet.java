@@ -55,7 +55,11 @@ import org.spongepowered.api.text.chat.ChatTypes;
 import org.spongepowered.api.world.Locatable;
 
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 import static net.kyori.adventure.platform.facet.Knob.logUnsupported;
@@ -84,6 +88,40 @@ class SpongeFacet<V> extends FacetBase<V> {
             });
   }
 
+  /**
+   * A cache of catalog types, resolved once for every value of an enum.
+   *
+   * <p>Values without a catalog type are cached too, so they are only looked up and logged once.</p>
+   *
+   * @param <K> an enum type
+   * @param <S> a catalog type
+   */
+  static final class Catalog<K extends Enum<K>, S extends CatalogType> {
+    private final @NonNull Class<S> spongeType;
+    private final @NonNull Class<K> type;
+    private final @NonNull Index<String, K> elements;
+    private volatile @Nullable Map<K, Optional<S>> values;
+
+    Catalog(final @NonNull Class<S> spongeType, final @NonNull Class<K> type, final @NonNull Index<String, K> elements) {
+      this.spongeType = spongeType;
+      this.type = type;
+      this.elements = elements;
+    }
+
+    @Nullable S get(final @NonNull SpongeFacet<?> facet, final @NonNull K value) {
+      Map<K, Optional<S>> values = this.values;
+      if(values == null) {
+        // Resolved lazily, since catalog types are not registered until the game starts
+        values = new EnumMap<>(this.type);
+        for(final K element : this.type.getEnumConstants()) {
+          values.put(element, Optional.ofNullable(facet.sponge(this.spongeType, element, this.elements)));
+        }
+        this.values = values;
+      }
+      return values.get(requireNonNull(value, "value")).orElse(null);
+    }
+  }
+
   static class Message<V> extends SpongeFacet<V> implements Facet.Message<V, Text> {
     protected Message(final @Nullable Class<? extends V> viewerClass) {
       super(viewerClass);
@@ -93,6 +131,11 @@ class SpongeFacet<V> extends FacetBase<V> {
     public @NonNull Text createMessage(final @NonNull V viewer, final @NonNull Component message) {
       return get().serialize(message);
     }
+
+    @Override
+    public boolean isMessageCacheable() {
+      return true;
+    }
   }
 
   static class Chat extends Message<MessageReceiver> implements Facet.Chat<MessageReceiver, Text> {
@@ -202,6 +245,9 @@ class SpongeFacet<V> extends FacetBase<V> {
   }
 
   static class Sound extends Position implements Facet.Sound<Viewer, Vector3d> {
+    private static final Catalog<net.kyori.adventure.sound.Sound.Source, SoundCategory> CATEGORIES = new Catalog<>(SoundCategory.class, net.kyori.adventure.sound.Sound.Source.class, net.kyori.adventure.sound.Sound.Source.NAMES);
+    private static final Map<Key, Optional<SoundType>> TYPES = new ConcurrentHashMap<>();
+
     @Override
     public void playSound(final @NonNull Viewer viewer, final net.kyori.adventure.sound.@NonNull Sound sound, final @NonNull Vector3d vector) {
       final SoundType type = this.type(sound.name());
@@ -231,11 +277,11 @@ class SpongeFacet<V> extends FacetBase<V> {
     }
 
     public @Nullable SoundType type(final @Nullable Key sound) {
-      return sound == null ? null : this.sponge(SoundType.class, sound);
+      return sound == null ? null : TYPES.computeIfAbsent(sound, key -> Optional.ofNullable(this.sponge(SoundType.class, key))).orElse(null);
     }
 
     public @Nullable SoundCategory category(final net.kyori.adventure.sound.Sound.@Nullable Source source) {
-      return source == null ? null : this.sponge(SoundCategory.class, source, net.kyori.adventure.sound.Sound.Source.NAMES);
+      return source == null ? null : CATEGORIES.get(this, source);
     }
   }
 
@@ -268,6 +314,9 @@ class SpongeFacet<V> extends FacetBase<V> {
   }
 
   static class BossBar extends Message<Player> implements Facet.BossBar<Player> {
+    private static final Catalog<net.kyori.adventure.bossbar.BossBar.Color, BossBarColor> COLORS = new Catalog<>(BossBarColor.class, net.kyori.adventure.bossbar.BossBar.Color.class, net.kyori.adventure.bossbar.BossBar.Color.NAMES);
+    private static final Catalog<net.kyori.adventure.bossbar.BossBar.Overlay, BossBarOverlay> OVERLAYS = new Catalog<>(BossBarOverlay.class, net.kyori.adventure.bossbar.BossBar.Overlay.class, net.kyori.adventure.bossbar.BossBar.Overlay.NAMES);
+
     private final ServerBossBar bar;
 
     protected BossBar(final @NonNull Collection<Player> viewers) {
@@ -296,7 +345,7 @@ class SpongeFacet<V> extends FacetBase<V> {
 
     @Override
     public void bossBarColorChanged(final net.kyori.adventure.bossbar.@NonNull BossBar bar, final net.kyori.adventure.bossbar.BossBar.@NonNull Color oldColor, final net.kyori.adventure.bossbar.BossBar.@NonNull Color newColor) {
-      final BossBarColor color = this.sponge(BossBarColor.class, newColor, net.kyori.adventure.bossbar.BossBar.Color.NAMES);
+      final BossBarColor color = COLORS.get(this, newColor);
       if(color != null) {
         this.bar.setColor(color);
       }
@@ -304,7 +353,7 @@ class SpongeFacet<V> extends FacetBase<V> {
 
     @Override
     public void bossBarOverlayChanged(final net.kyori.adventure.bossbar.@NonNull BossBar bar, final net.kyori.adventure.bossbar.BossBar.@NonNull Overlay oldOverlay, final net.kyori.adventure.bossbar.BossBar.@NonNull Overlay newOverlay) {
-      final BossBarOverlay overlay = this.sponge(BossBarOverlay.class, newOverlay, net.kyori.adventure.bossbar.BossBar.Overlay.NAMES);
+      final BossBarOverlay overlay = OVERLAYS.get(this, newOverlay);
       if(overlay != null) {
         this.bar.setOverlay(overlay);
       }
@@ -29,6 +29,8 @@ import com.viaversion.viaversion.api.protocol.Protocol;
 import com.viaversion.viaversion.api.protocol.packet.ClientboundPacketType;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.type.Type;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.platform.facet.Facet;
@@ -39,9 +41,13 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -68,6 +74,9 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
     SUPPORTED = supported && Knob.isEnabled("viaversion", true);
   }
 
+  // A client's protocol never changes during a session, so connections are cached from when a viewer joins until it quits
+  private static final Map<Object, Connection> CONNECTIONS = new ConcurrentHashMap<>();
+
   private final Function<V, UserConnection> connectionFunction;
   private final int minProtocol;
 
@@ -93,15 +102,73 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
   }
 
   public @Nullable UserConnection findConnection(final @NonNull V viewer) {
-    return this.connectionFunction.apply(viewer);
+    final Connection connection = findConnection(viewer, this.connectionFunction);
+    return connection == null ? null : connection.user;
   }
 
   public int findProtocol(final @NonNull V viewer) {
-    final UserConnection connection = this.findConnection(viewer);
+    final Connection connection = findConnection(viewer, this.connectionFunction);
+    return connection == null ? -1 : connection.protocol;
+  }
+
+  /**
+   * Finds the protocol version of a viewer, using the connection cache.
+   *
+   * @param viewer a viewer
+   * @param connectionFunction a function to look up a connection
+   * @param <V> a viewer type
+   * @return a protocol version, or {@code -1} if not connected
+   */
+  public static <V> int findProtocol(final @NonNull V viewer, final @NonNull Function<V, UserConnection> connectionFunction) {
+    final Connection connection = findConnection(viewer, connectionFunction);
+    return connection == null ? -1 : connection.protocol;
+  }
+
+  /**
+   * Caches the connection of a viewer, such as when they join.
+   *
+   * <p>Connections are only cached here, so a viewer that is removed is never cached again by a later lookup.</p>
+   *
+   * @param viewer a viewer
+   * @param connectionFunction a function to look up a connection
+   * @param <V> a viewer type
+   */
+  public static <V> void addConnection(final @NonNull V viewer, final @NonNull Function<V, UserConnection> connectionFunction) {
+    final Connection connection = lookupConnection(viewer, connectionFunction);
     if(connection != null) {
-      return connection.getProtocolInfo().getProtocolVersion();
+      CONNECTIONS.put(viewer, connection);
+    }
+  }
+
+  /**
+   * Removes the cached connection of a viewer, such as when they disconnect.
+   *
+   * @param viewer a viewer
+   */
+  public static void removeConnection(final @NonNull Object viewer) {
+    CONNECTIONS.remove(viewer);
+  }
+
+  private static <V> @Nullable Connection findConnection(final @NonNull V viewer, final @NonNull Function<V, UserConnection> connectionFunction) {
+    final Connection cached = CONNECTIONS.get(viewer);
+    return cached != null ? cached : lookupConnection(viewer, connectionFunction);
+  }
+
+  private static <V> @Nullable Connection lookupConnection(final @NonNull V viewer, final @NonNull Function<V, UserConnection> connectionFunction) {
+    final UserConnection user = connectionFunction.apply(viewer);
+    if(user == null || user.getProtocolInfo() == null) return null;
+
+    return new Connection(user, user.getProtocolInfo().getProtocolVersion());
+  }
+
+  static final class Connection {
+    final UserConnection user;
+    final int protocol;
+
+    Connection(final @NonNull UserConnection user, final int protocol) {
+      this.user = user;
+      this.protocol = protocol;
     }
-    return -1;
   }
 
   @NonNull
@@ -115,15 +182,35 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
     }
   }
 
+  @Override
+  public int protocolBucket(final @NonNull V viewer) {
+    return this.findProtocol(viewer) >= PROTOCOL_HEX_COLOR ? PROTOCOL_HEX_COLOR : PROTOCOL_JSON;
+  }
+
+  @Override
+  public boolean isMessageCacheable() {
+    return true;
+  }
+
   public static class ProtocolBased<V> extends ViaFacet<V> {
+    // Resolved packets, shared by every facet instance, such as a boss bar shown to each audience
+    private static final Map<List<String>, Packet> PACKETS = new ConcurrentHashMap<>();
+
     private final Class<? extends Protocol<?, ?, ?, ?>> protocolClass;
     private final Class<? extends ClientboundPacketType> packetClass;
     private final int packetId;
 
-    @SuppressWarnings("unchecked")
     protected ProtocolBased(final @NonNull String fromProtocol, final @NonNull String toProtocol, final int minProtocol, final @NonNull String packetName, final @NonNull Class<? extends V> viewerClass, final @NonNull Function<V, UserConnection> connectionFunction) {
       super(viewerClass, connectionFunction, minProtocol);
 
+      final Packet packet = PACKETS.computeIfAbsent(Arrays.asList(fromProtocol, toProtocol, packetName), key -> findPacket(fromProtocol, toProtocol, packetName));
+      this.protocolClass = packet.protocolClass;
+      this.packetClass = packet.packetClass;
+      this.packetId = packet.packetId;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NonNull Packet findPacket(final @NonNull String fromProtocol, final @NonNull String toProtocol, final @NonNull String packetName) {
       final String protocolClassName = MessageFormat.format("{0}.protocols.protocol{1}to{2}.Protocol{1}To{2}", PACKAGE, fromProtocol, toProtocol);
       final String packetClassName = MessageFormat.format("{0}.protocols.protocol{1}to{2}.ClientboundPackets{1}", PACKAGE, fromProtocol, toProtocol);
 
@@ -143,9 +230,7 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
         // No-op, ViaVersion is not loaded
       }
 
-      this.protocolClass = protocolClass;
-      this.packetClass = packetClass;
-      this.packetId = packetId;
+      return new Packet(protocolClass, packetClass, packetId);
     }
 
     @Override
@@ -160,6 +245,26 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
       return PacketWrapper.create(this.packetId, null, this.findConnection(viewer));
     }
 
+    public @Nullable PacketTemplate createTemplate(final @NonNull PacketTemplate.Writer writer) {
+      final ByteBuf buffer = Unpooled.buffer();
+      try {
+        writer.write(buffer);
+        final byte[] payload = new byte[buffer.readableBytes()];
+        buffer.readBytes(payload);
+        return new PacketTemplate(payload);
+      } catch(final Throwable error) {
+        logError(error, "Failed to create ViaVersion packet template: %s", this.packetClass);
+        return null;
+      } finally {
+        buffer.release();
+      }
+    }
+
+    public void sendPacket(final @NonNull V viewer, final @Nullable PacketTemplate template) {
+      if(template == null) return;
+      this.sendPacket(template.bind(this.packetId, this.findConnection(viewer)));
+    }
+
     public void sendPacket(final @NonNull PacketWrapper packet) {
       if(packet.user() == null) return;
       try {
@@ -170,6 +275,47 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
     }
   }
 
+  /**
+   * An immutable packet payload, serialized once and read by each connection it is sent to.
+   */
+  public static final class PacketTemplate {
+    private final byte[] payload;
+
+    PacketTemplate(final byte[] payload) {
+      this.payload = payload;
+    }
+
+    /**
+     * Creates a packet for a connection, reading fields from this payload.
+     *
+     * <p>ViaVersion transforms the packet as if it was read from the server, so no fields are written again.</p>
+     *
+     * @param packetId a packet id
+     * @param connection a connection
+     * @return a packet
+     */
+    @NonNull PacketWrapper bind(final int packetId, final @Nullable UserConnection connection) {
+      return PacketWrapper.create(packetId, Unpooled.wrappedBuffer(this.payload), connection);
+    }
+
+    @FunctionalInterface
+    public interface Writer {
+      void write(final @NonNull ByteBuf buffer) throws Exception;
+    }
+  }
+
+  static final class Packet {
+    final Class<? extends Protocol<?, ?, ?, ?>> protocolClass;
+    final Class<? extends ClientboundPacketType> packetClass;
+    final int packetId;
+
+    Packet(final @Nullable Class<? extends Protocol<?, ?, ?, ?>> protocolClass, final @Nullable Class<? extends ClientboundPacketType> packetClass, final int packetId) {
+      this.protocolClass = protocolClass;
+      this.packetClass = packetClass;
+      this.packetId = packetId;
+    }
+  }
+
   public static class Chat<V> extends ProtocolBased<V> implements ChatPacket<V, String> {
     public Chat(final @NonNull Class<? extends V> viewerClass, final @NonNull Function<V, UserConnection> connectionFunction) {
       super("1_16", "1_15_2", PROTOCOL_HEX_COLOR, "CHAT_MESSAGE", viewerClass, connectionFunction);
@@ -227,29 +373,26 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
     @NonNull
     @Override
     public Consumer<V> createTitle(final @Nullable String title, final @Nullable String subTitle, final int inTicks, final int stayTicks, final int outTicks) {
-      return viewer -> {
-        if(inTicks > -1 || stayTicks > -1 || outTicks > -1) {
-          final PacketWrapper packet = this.createPacket(viewer);
-          packet.write(Type.VAR_INT, ACTION_TIMES);
-          packet.write(Type.INT, inTicks);
-          packet.write(Type.INT, stayTicks);
-          packet.write(Type.INT, outTicks);
-          this.sendPacket(packet);
-        }
-
-        if(subTitle != null) {
-          final PacketWrapper packet = this.createPacket(viewer);
-          packet.write(Type.VAR_INT, ACTION_SUBTITLE);
-          packet.write(Type.STRING, subTitle);
-          this.sendPacket(packet);
-        }
+      // Payloads are written once per title, then bound to each viewer's connection
+      final PacketTemplate times = inTicks > -1 || stayTicks > -1 || outTicks > -1 ? this.createTemplate(buffer -> {
+        Type.VAR_INT.writePrimitive(buffer, ACTION_TIMES);
+        Type.INT.writePrimitive(buffer, inTicks);
+        Type.INT.writePrimitive(buffer, stayTicks);
+        Type.INT.writePrimitive(buffer, outTicks);
+      }) : null;
+      final PacketTemplate subTitlePacket = subTitle == null ? null : this.createTemplate(buffer -> {
+        Type.VAR_INT.writePrimitive(buffer, ACTION_SUBTITLE);
+        Type.STRING.write(buffer, subTitle);
+      });
+      final PacketTemplate titlePacket = title == null ? null : this.createTemplate(buffer -> {
+        Type.VAR_INT.writePrimitive(buffer, ACTION_TITLE);
+        Type.STRING.write(buffer, title);
+      });
 
-        if(title != null) {
-          final PacketWrapper packet = this.createPacket(viewer);
-          packet.write(Type.VAR_INT, ACTION_TITLE);
-          packet.write(Type.STRING, title);
-          this.sendPacket(packet);
-        }
+      return viewer -> {
+        this.sendPacket(viewer, times);
+        this.sendPacket(viewer, subTitlePacket);
+        this.sendPacket(viewer, titlePacket);
       };
     }
 
@@ -348,30 +491,42 @@ public class ViaFacet<V> extends FacetBase<V> implements Facet.Message<V, String
       this.broadcastPacket(ACTION_FLAG);
     }
 
+    public @Nullable PacketTemplate createTemplate(final int action) {
+      // Fields are copied, since they may change before the template is written
+      final UUID id = this.id;
+      final String title = this.title;
+      final float health = this.health;
+      final int color = this.color;
+      final int overlay = this.overlay;
+      final byte flags = this.flags;
+      return this.createTemplate(buffer -> {
+        Type.UUID.write(buffer, id);
+        Type.VAR_INT.writePrimitive(buffer, action);
+        if(action == ACTION_ADD || action == ACTION_TITLE) {
+          Type.STRING.write(buffer, title);
+        }
+        if(action == ACTION_ADD || action == ACTION_HEALTH) {
+          Type.FLOAT.writePrimitive(buffer, health);
+        }
+        if(action == ACTION_ADD || action == ACTION_STYLE) {
+          Type.VAR_INT.writePrimitive(buffer, color);
+          Type.VAR_INT.writePrimitive(buffer, overlay);
+        }
+        if(action == ACTION_ADD || action == ACTION_FLAG) {
+          Type.BYTE.writePrimitive(buffer, flags);
+        }
+      });
+    }
+
     public void sendPacket(final @NonNull V viewer, final int action) {
-      final PacketWrapper packet = this.createPacket(viewer);
-      packet.write(Type.UUID, this.id);
-      packet.write(Type.VAR_INT, action);
-      if(action == ACTION_ADD || action == ACTION_TITLE) {
-        packet.write(Type.STRING, this.title);
-      }
-      if(action == ACTION_ADD || action == ACTION_HEALTH) {
-        packet.write(Type.FLOAT, this.health);
-      }
-      if(action == ACTION_ADD || action == ACTION_STYLE) {
-        packet.write(Type.VAR_INT, this.color);
-        packet.write(Type.VAR_INT, this.overlay);
-      }
-      if(action == ACTION_ADD || action == ACTION_FLAG) {
-        packet.write(Type.BYTE, this.flags);
-      }
-      this.sendPacket(packet);
+      this.sendPacket(viewer, this.createTemplate(action));
     }
 
     public void broadcastPacket(final int action) {
       if(this.isEmpty()) return;
+      final PacketTemplate template = this.createTemplate(action);
       for(final V viewer : this.viewers) {
-        this.sendPacket(viewer, action);
+        this.sendPacket(viewer, template);
       }
     }
 
@@ -0,0 +1,253 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.bungeecord;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.md_5.bungee.api.ChatColor;
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.hover.content.Content;
+import net.md_5.bungee.api.chat.hover.content.Text;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Converts between {@link Component}s and {@link BaseComponent}s without JSON.
+ *
+ * <p>Text and translatable components are converted with their colors, decorations, click and text hover events,
+ * and insertions. Anything else, such as fonts, other hover events or other component types, returns {@code null}
+ * so the JSON path can be used instead.</p>
+ */
+final class BaseComponentConverter {
+  private BaseComponentConverter() {
+  }
+
+  private static final Map<NamedTextColor, ChatColor> COLORS = new HashMap<>();
+  private static final Map<ChatColor, NamedTextColor> COLORS_REVERSE = new HashMap<>();
+
+  static {
+    try {
+      for(final ChatColor color : ChatColor.values()) {
+        final NamedTextColor named = NamedTextColor.NAMES.value(color.getName());
+        if(named != null) {
+          COLORS.put(named, color);
+          COLORS_REVERSE.put(color, named);
+        }
+      }
+    } catch(final Throwable error) {
+      COLORS.clear();
+      COLORS_REVERSE.clear();
+    }
+  }
+
+  private static final boolean SUPPORTED = COLORS.size() == NamedTextColor.NAMES.values().size();
+
+  /**
+   * Converts a component to a {@link BaseComponent}.
+   *
+   * @param component a component
+   * @param downsampleColors if colors should be downsampled to named colors
+   * @return a {@link BaseComponent}, or {@code null} if the component must be converted through JSON
+   */
+  static @Nullable BaseComponent toBungee(final @NonNull Component component, final boolean downsampleColors) {
+    if(!SUPPORTED) return null;
+
+    try {
+      return convert(component, downsampleColors);
+    } catch(final Throwable error) {
+      // Includes linkage errors from older versions of the chat api
+      return null;
+    }
+  }
+
+  /**
+   * Converts {@link BaseComponent}s to a component.
+   *
+   * @param input an array of {@link BaseComponent}s
+   * @return a component, or {@code null} if the input must be converted through JSON
+   */
+  static @Nullable Component fromBungee(final @NonNull BaseComponent@NonNull[] input) {
+    if(!SUPPORTED) return null;
+
+    try {
+      if(input.length == 1) return convertReverse(input[0]);
+
+      // The same as BungeeCord, which wraps multiple components in an empty text component
+      final List<Component> children = convertReverse(input);
+      return children == null ? null : Component.text("").children(children);
+    } catch(final Throwable error) {
+      return null;
+    }
+  }
+
+  @SuppressWarnings("deprecation") // The legacy hover constructor is the only one available before 1.16
+  private static @Nullable BaseComponent convert(final @NonNull Component component, final boolean downsampleColors) {
+    final BaseComponent output;
+    if(component instanceof TextComponent) {
+      output = new net.md_5.bungee.api.chat.TextComponent(((TextComponent) component).content());
+    } else if(component instanceof TranslatableComponent) {
+      final net.md_5.bungee.api.chat.TranslatableComponent translatable = new net.md_5.bungee.api.chat.TranslatableComponent();
+      translatable.setTranslate(((TranslatableComponent) component).key());
+      final List<Component> args = ((TranslatableComponent) component).args();
+      if(!args.isEmpty()) {
+        final List<BaseComponent> with = new ArrayList<>(args.size());
+        for(final Component arg : args) {
+          final BaseComponent bungeeArg = convert(arg, downsampleColors);
+          if(bungeeArg == null) return null;
+          with.add(bungeeArg);
+        }
+        translatable.setWith(with);
+      }
+      output = translatable;
+    } else {
+      return null;
+    }
+
+    final Style style = component.style();
+    if(style.font() != null) return null;
+
+    final TextColor color = style.color();
+    if(color != null) {
+      if(color instanceof NamedTextColor) {
+        output.setColor(COLORS.get(color));
+      } else if(downsampleColors) {
+        output.setColor(COLORS.get(NamedTextColor.nearestTo(color)));
+      } else {
+        output.setColor(ChatColor.of(color.asHexString()));
+      }
+    }
+    output.setBold(decoration(style, TextDecoration.BOLD));
+    output.setItalic(decoration(style, TextDecoration.ITALIC));
+    output.setUnderlined(decoration(style, TextDecoration.UNDERLINED));
+    output.setStrikethrough(decoration(style, TextDecoration.STRIKETHROUGH));
+    output.setObfuscated(decoration(style, TextDecoration.OBFUSCATED));
+    output.setInsertion(style.insertion());
+
+    final ClickEvent click = style.clickEvent();
+    if(click != null) {
+      output.setClickEvent(new net.md_5.bungee.api.chat.ClickEvent(net.md_5.bungee.api.chat.ClickEvent.Action.valueOf(click.action().name()), click.value()));
+    }
+
+    final HoverEvent<?> hover = style.hoverEvent();
+    if(hover != null) {
+      if(hover.action() != HoverEvent.Action.SHOW_TEXT) return null;
+      final BaseComponent value = convert((Component) hover.value(), downsampleColors);
+      if(value == null) return null;
+      output.setHoverEvent(new net.md_5.bungee.api.chat.HoverEvent(net.md_5.bungee.api.chat.HoverEvent.Action.SHOW_TEXT, new BaseComponent[] {value}));
+    }
+
+    for(final Component child : component.children()) {
+      final BaseComponent bungeeChild = convert(child, downsampleColors);
+      if(bungeeChild == null) return null;
+      output.addExtra(bungeeChild);
+    }
+    return output;
+  }
+
+  private static @Nullable Component convertReverse(final @NonNull BaseComponent input) {
+    if(input.getFontRaw() != null) return null;
+
+    final Style.Builder style = Style.builder();
+    final ChatColor chatColor = input.getColorRaw();
+    if(chatColor != null) {
+      final NamedTextColor named = COLORS_REVERSE.get(chatColor);
+      if(named != null) {
+        style.color(named);
+      } else if(chatColor.getName().startsWith("#")) {
+        style.color(TextColor.fromHexString(chatColor.getName()));
+      } else {
+        return null; // Formatting codes, not colors
+      }
+    }
+    style.decoration(TextDecoration.BOLD, TextDecoration.State.byBoolean(input.isBoldRaw()));
+    style.decoration(TextDecoration.ITALIC, TextDecoration.State.byBoolean(input.isItalicRaw()));
+    style.decoration(TextDecoration.UNDERLINED, TextDecoration.State.byBoolean(input.isUnderlinedRaw()));
+    style.decoration(TextDecoration.STRIKETHROUGH, TextDecoration.State.byBoolean(input.isStrikethroughRaw()));
+    style.decoration(TextDecoration.OBFUSCATED, TextDecoration.State.byBoolean(input.isObfuscatedRaw()));
+    style.insertion(input.getInsertion());
+
+    final net.md_5.bungee.api.chat.ClickEvent click = input.getClickEvent();
+    if(click != null) {
+      style.clickEvent(ClickEvent.of(ClickEvent.Action.valueOf(click.getAction().name()), click.getValue()));
+    }
+
+    final net.md_5.bungee.api.chat.HoverEvent hover = input.getHoverEvent();
+    if(hover != null) {
+      if(hover.getAction() != net.md_5.bungee.api.chat.HoverEvent.Action.SHOW_TEXT || hover.getContents().size() != 1) return null;
+      final Content content = hover.getContents().get(0);
+      if(!(content instanceof Text)) return null;
+
+      final Object value = ((Text) content).getValue();
+      final Component text;
+      if(value instanceof BaseComponent[]) {
+        text = fromBungee((BaseComponent[]) value);
+      } else if(value instanceof String) {
+        text = Component.text((String) value);
+      } else {
+        return null;
+      }
+      if(text == null) return null;
+      style.hoverEvent(HoverEvent.showText(text));
+    }
+
+    final List<Component> children = input.getExtra() == null ? new ArrayList<>() : convertReverse(input.getExtra().toArray(new BaseComponent[0]));
+    if(children == null) return null;
+
+    if(input.getClass() == net.md_5.bungee.api.chat.TextComponent.class) {
+      return Component.text(((net.md_5.bungee.api.chat.TextComponent) input).getText(), style.build()).children(children);
+    } else if(input.getClass() == net.md_5.bungee.api.chat.TranslatableComponent.class) {
+      final net.md_5.bungee.api.chat.TranslatableComponent translatable = (net.md_5.bungee.api.chat.TranslatableComponent) input;
+      final List<Component> args = translatable.getWith() == null ? new ArrayList<>() : convertReverse(translatable.getWith().toArray(new BaseComponent[0]));
+      if(args == null) return null;
+      return Component.translatable(translatable.getTranslate(), style.build()).args(args).children(children);
+    }
+    return null;
+  }
+
+  private static @Nullable List<Component> convertReverse(final @NonNull BaseComponent@NonNull[] input) {
+    final List<Component> output = new ArrayList<>(input.length);
+    for(final BaseComponent component : input) {
+      final Component converted = convertReverse(component);
+      if(converted == null) return null;
+      output.add(converted);
+    }
+    return output;
+  }
+
+  private static @Nullable Boolean decoration(final @NonNull Style style, final @NonNull TextDecoration decoration) {
+    final TextDecoration.State state = style.decoration(decoration);
+    return state == TextDecoration.State.NOT_SET ? null : state == TextDecoration.State.TRUE;
+  }
+}
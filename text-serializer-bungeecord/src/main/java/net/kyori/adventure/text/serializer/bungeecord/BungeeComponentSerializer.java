@@ -24,6 +24,7 @@
 package net.kyori.adventure.text.serializer.bungeecord;
 
 import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -48,8 +49,8 @@ public final class BungeeComponentSerializer implements ComponentSerializer<Comp
     bind();
   }
 
-  private static final BungeeComponentSerializer MODERN = new BungeeComponentSerializer(GsonComponentSerializer.gson(), LegacyComponentSerializer.builder().hexColors().useUnusualXRepeatedCharacterHexFormat().build());
-  private static final BungeeComponentSerializer PRE_1_16 = new BungeeComponentSerializer(GsonComponentSerializer.builder().downsampleColors().emitLegacyHoverEvent().build(), LegacyComponentSerializer.legacySection());
+  private static final BungeeComponentSerializer MODERN = new BungeeComponentSerializer(GsonComponentSerializer.gson(), LegacyComponentSerializer.builder().hexColors().useUnusualXRepeatedCharacterHexFormat().build(), true, false);
+  private static final BungeeComponentSerializer PRE_1_16 = new BungeeComponentSerializer(GsonComponentSerializer.builder().downsampleColors().emitLegacyHoverEvent().build(), LegacyComponentSerializer.legacySection(), true, true);
 
   /**
    * Gets whether the component serializer has native support.
@@ -93,7 +94,8 @@ public final class BungeeComponentSerializer implements ComponentSerializer<Comp
    */
   public static BungeeComponentSerializer of(final GsonComponentSerializer serializer, final LegacyComponentSerializer legacySerializer) {
     if(serializer == null || legacySerializer == null) return null;
-    return new BungeeComponentSerializer(serializer, legacySerializer);
+    // The options of a custom serializer are unknown, so components are always converted through JSON
+    return new BungeeComponentSerializer(serializer, legacySerializer, false, false);
   }
 
   /**
@@ -117,10 +119,16 @@ public final class BungeeComponentSerializer implements ComponentSerializer<Comp
 
   private final GsonComponentSerializer serializer;
   private final LegacyComponentSerializer legacySerializer;
+  private final TypeAdapter<Component> adapter;
+  private final boolean converted;
+  private final boolean downsampleColors;
 
-  private BungeeComponentSerializer(final GsonComponentSerializer serializer, final LegacyComponentSerializer legacySerializer) {
+  private BungeeComponentSerializer(final GsonComponentSerializer serializer, final LegacyComponentSerializer legacySerializer, final boolean converted, final boolean downsampleColors) {
     this.serializer = serializer;
     this.legacySerializer = legacySerializer;
+    this.converted = converted;
+    this.downsampleColors = downsampleColors;
+    this.adapter = serializer.serializer().getAdapter(Component.class);
   }
 
   private static void bind() {
@@ -138,9 +146,13 @@ public final class BungeeComponentSerializer implements ComponentSerializer<Comp
 
     if(input.length == 1 && input[0] instanceof AdapterComponent) {
       return ((AdapterComponent) input[0]).component;
-    } else {
-      return this.serializer.deserialize(net.md_5.bungee.chat.ComponentSerializer.toString(input));
     }
+
+    final Component component = this.converted ? BaseComponentConverter.fromBungee(input) : null;
+    if(component != null) {
+      return component;
+    }
+    return this.serializer.deserialize(net.md_5.bungee.chat.ComponentSerializer.toString(input));
   }
 
   @Override
@@ -149,14 +161,23 @@ public final class BungeeComponentSerializer implements ComponentSerializer<Comp
 
     if(SUPPORTED) {
       return new BaseComponent[] {new AdapterComponent(component)};
-    } else {
-      return net.md_5.bungee.chat.ComponentSerializer.parse(this.serializer.serialize(component));
     }
+
+    final BaseComponent converted = this.converted ? BaseComponentConverter.toBungee(component, this.downsampleColors) : null;
+    if(converted != null) {
+      return new BaseComponent[] {converted};
+    }
+    return net.md_5.bungee.chat.ComponentSerializer.parse(this.serializer.serialize(component));
+  }
+
+  boolean downsampleColors() {
+    return this.downsampleColors;
   }
 
   class AdapterComponent extends BaseComponent implements SelfSerializable {
     private final Component component;
     private volatile String legacy;
+    private volatile String json;
 
     @SuppressWarnings("deprecation") // TODO: when/if bungee removes this, ???
     AdapterComponent(final Component component) {
@@ -178,7 +199,11 @@ public final class BungeeComponentSerializer implements ComponentSerializer<Comp
 
     @Override
     public void write(final JsonWriter out) throws IOException {
-      BungeeComponentSerializer.this.serializer.serializer().getAdapter(Component.class).write(out, this.component);
+      // BungeeCord writes the component for each connection, so the json is kept for the next one
+      if(this.json == null) {
+        this.json = BungeeComponentSerializer.this.adapter.toJson(this.component);
+      }
+      out.jsonValue(this.json);
     }
   }
 }
@@ -0,0 +1,120 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.bungeecord;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.md_5.bungee.api.ChatColor;
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.TextComponent;
+import net.md_5.bungee.api.chat.TranslatableComponent;
+import net.md_5.bungee.api.chat.hover.content.Text;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BaseComponentConverterTest {
+  @Test
+  void testDownsampleOnlyInLegacy() {
+    assertFalse(BungeeComponentSerializer.get().downsampleColors());
+    assertTrue(BungeeComponentSerializer.legacy().downsampleColors());
+
+    final TextColor color = TextColor.color(0x123456);
+    final Component component = Component.text("hex", color);
+    assertEquals(ChatColor.of("#123456"), BaseComponentConverter.toBungee(component, false).getColorRaw());
+    assertEquals(NamedTextColor.NAMES.key(NamedTextColor.nearestTo(color)), BaseComponentConverter.toBungee(component, true).getColorRaw().getName());
+  }
+
+  @Test
+  void testExplicitFalseDecoration() {
+    final BaseComponent converted = BaseComponentConverter.toBungee(Component.text("a").decoration(TextDecoration.BOLD, false), false);
+    assertNotNull(converted);
+    assertEquals(Boolean.FALSE, converted.isBoldRaw());
+    assertNull(converted.isItalicRaw());
+
+    final Component reverse = BaseComponentConverter.fromBungee(new BaseComponent[] {converted});
+    assertEquals(Component.text("a").decoration(TextDecoration.BOLD, false), reverse);
+  }
+
+  @Test
+  void testTranslatableArgs() {
+    final Component component = Component.translatable("chat.type.text", Component.text("name"), Component.text("message", NamedTextColor.RED));
+    final BaseComponent converted = BaseComponentConverter.toBungee(component, false);
+    assertTrue(converted instanceof TranslatableComponent);
+    assertEquals(2, ((TranslatableComponent) converted).getWith().size());
+    assertEquals(ChatColor.RED, ((TranslatableComponent) converted).getWith().get(1).getColorRaw());
+
+    assertEquals(component, BaseComponentConverter.fromBungee(new BaseComponent[] {converted}));
+  }
+
+  @Test
+  @SuppressWarnings("deprecation") // The legacy hover value is still sent by older servers
+  void testLegacyHoverValue() {
+    final TextComponent input = new TextComponent("hover");
+    input.setHoverEvent(new net.md_5.bungee.api.chat.HoverEvent(net.md_5.bungee.api.chat.HoverEvent.Action.SHOW_TEXT, new BaseComponent[] {new TextComponent("tooltip")}));
+
+    assertEquals(Component.text("hover").hoverEvent(HoverEvent.showText(Component.text("tooltip"))), BaseComponentConverter.fromBungee(new BaseComponent[] {input}));
+  }
+
+  @Test
+  void testHoverContents() {
+    final TextComponent input = new TextComponent("hover");
+    input.setHoverEvent(new net.md_5.bungee.api.chat.HoverEvent(net.md_5.bungee.api.chat.HoverEvent.Action.SHOW_TEXT, new Text("tooltip")));
+
+    assertEquals(Component.text("hover").hoverEvent(HoverEvent.showText(Component.text("tooltip"))), BaseComponentConverter.fromBungee(new BaseComponent[] {input}));
+  }
+
+  @Test
+  void testFormattingCodeColor() {
+    for(final ChatColor color : new ChatColor[] {ChatColor.RESET, ChatColor.BOLD}) {
+      final TextComponent input = new TextComponent("format");
+      input.setColor(color);
+      assertNull(BaseComponentConverter.fromBungee(new BaseComponent[] {input}), color::getName);
+    }
+  }
+
+  @Test
+  void testFontFallsBack() {
+    assertNull(BaseComponentConverter.toBungee(Component.text("font", Style.builder().font(Key.key("uniform")).build()), false));
+
+    final TextComponent input = new TextComponent("font");
+    input.setFont("minecraft:uniform");
+    assertNull(BaseComponentConverter.fromBungee(new BaseComponent[] {input}));
+  }
+
+  @Test
+  void testMultipleComponents() {
+    final Component converted = BaseComponentConverter.fromBungee(new BaseComponent[] {new TextComponent("a"), new TextComponent("b")});
+    assertEquals(Component.text("").append(Component.text("a")).append(Component.text("b")), converted);
+  }
+}
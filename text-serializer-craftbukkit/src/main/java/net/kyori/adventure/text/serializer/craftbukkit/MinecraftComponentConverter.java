@@ -0,0 +1,342 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.craftbukkit;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findConstructor;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findEnum;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findField;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findFieldOfType;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findGetterOf;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findMethod;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findNmsClass;
+import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflection.findStaticMethod;
+
+/**
+ * Converts between {@link Component}s and {@code net.minecraft.server.<version>.IChatBaseComponent}s without JSON.
+ *
+ * <p>Only text components are converted, with colors, decorations, click events, text hover events and insertions.
+ * Anything else, such as item or entity hover events, fonts or other component types, returns {@code null}
+ * so the JSON path can be used instead.</p>
+ */
+final class MinecraftComponentConverter {
+  private MinecraftComponentConverter() {
+  }
+
+  private static final @Nullable Class<?> CLASS_CHAT_COMPONENT = findNmsClass("IChatBaseComponent");
+  private static final @Nullable Class<?> CLASS_CHAT_MUTABLE_COMPONENT = findNmsClass("IChatMutableComponent"); // Added in 1.16
+  private static final @Nullable Class<?> CLASS_CHAT_COMPONENT_TEXT = findNmsClass("ChatComponentText");
+  private static final @Nullable Class<?> CLASS_CHAT_MODIFIER = findNmsClass("ChatModifier");
+  private static final @Nullable Class<?> CLASS_CHAT_FORMAT = findNmsClass("EnumChatFormat");
+  private static final @Nullable Class<?> CLASS_CHAT_HEX_COLOR = findNmsClass("ChatHexColor"); // Added in 1.16
+  private static final @Nullable Class<?> CLASS_CHAT_CLICKABLE = findNmsClass("ChatClickable");
+  private static final @Nullable Class<?> CLASS_CHAT_CLICK_ACTION = findNmsClass("ChatClickable$EnumClickAction");
+  private static final @Nullable Class<?> CLASS_CHAT_HOVERABLE = findNmsClass("ChatHoverable");
+  private static final @Nullable Class<?> CLASS_CHAT_HOVER_ACTION = findNmsClass("ChatHoverable$EnumHoverAction");
+  // Mutating methods return the mutable component since 1.16
+  private static final @Nullable Class<?> CLASS_CHAT_COMPONENT_RESULT = CLASS_CHAT_MUTABLE_COMPONENT != null ? CLASS_CHAT_MUTABLE_COMPONENT : CLASS_CHAT_COMPONENT;
+
+  private static final @Nullable MethodHandle TEXT_NEW = findConstructor(CLASS_CHAT_COMPONENT_TEXT, String.class);
+  private static final @Nullable MethodHandle COMPONENT_GET_TEXT = findMethod(CLASS_CHAT_COMPONENT, "getText", String.class);
+  private static final @Nullable MethodHandle COMPONENT_GET_SIBLINGS = findMethod(CLASS_CHAT_COMPONENT, "getSiblings", List.class);
+  private static final @Nullable MethodHandle COMPONENT_ADD_SIBLING = findMethod(CLASS_CHAT_COMPONENT_TEXT, "addSibling", CLASS_CHAT_COMPONENT_RESULT, CLASS_CHAT_COMPONENT);
+  private static final @Nullable MethodHandle COMPONENT_GET_MODIFIER = findMethod(CLASS_CHAT_COMPONENT, "getChatModifier", CLASS_CHAT_MODIFIER);
+  private static final @Nullable MethodHandle COMPONENT_SET_MODIFIER = findMethod(CLASS_CHAT_COMPONENT_TEXT, "setChatModifier", CLASS_CHAT_COMPONENT_RESULT, CLASS_CHAT_MODIFIER);
+
+  private static final @Nullable MethodHandle MODIFIER_NEW = findConstructor(CLASS_CHAT_MODIFIER); // Before 1.16
+  private static final @Nullable MethodHandle MODIFIER_SET_COLOR = findMethod(CLASS_CHAT_MODIFIER, "setColor", CLASS_CHAT_MODIFIER, CLASS_CHAT_HEX_COLOR == null ? CLASS_CHAT_FORMAT : CLASS_CHAT_HEX_COLOR);
+  private static final @Nullable MethodHandle MODIFIER_SET_CLICK = findMethod(CLASS_CHAT_MODIFIER, "setChatClickable", CLASS_CHAT_MODIFIER, CLASS_CHAT_CLICKABLE);
+  private static final @Nullable MethodHandle MODIFIER_SET_HOVER = findMethod(CLASS_CHAT_MODIFIER, "setChatHoverable", CLASS_CHAT_MODIFIER, CLASS_CHAT_HOVERABLE);
+  private static final @Nullable MethodHandle MODIFIER_SET_INSERTION = findMethod(CLASS_CHAT_MODIFIER, "setInsertion", CLASS_CHAT_MODIFIER, String.class);
+  private static final @Nullable MethodHandle HEX_COLOR_FROM_RGB = findStaticMethod(CLASS_CHAT_HEX_COLOR, "a", CLASS_CHAT_HEX_COLOR, int.class);
+  private static final @Nullable MethodHandle HEX_COLOR_FROM_FORMAT = findStaticMethod(CLASS_CHAT_HEX_COLOR, "a", CLASS_CHAT_HEX_COLOR, CLASS_CHAT_FORMAT);
+  private static final @Nullable MethodHandle CLICK_NEW = findConstructor(CLASS_CHAT_CLICKABLE, CLASS_CHAT_CLICK_ACTION, String.class);
+  private static final @Nullable MethodHandle HOVER_NEW = CLASS_CHAT_MUTABLE_COMPONENT != null
+    ? findConstructor(CLASS_CHAT_HOVERABLE, CLASS_CHAT_HOVER_ACTION, Object.class) // 1.16+, the value is generic
+    : findConstructor(CLASS_CHAT_HOVERABLE, CLASS_CHAT_HOVER_ACTION, CLASS_CHAT_COMPONENT);
+
+  // The getters of a modifier fall back to its parent, so the fields are read instead
+  private static final @Nullable MethodHandle MODIFIER_GET_COLOR = findGetterOf(findFieldOfType(CLASS_CHAT_MODIFIER, CLASS_CHAT_FORMAT));
+  private static final @Nullable MethodHandle MODIFIER_GET_CLICK = findGetterOf(findFieldOfType(CLASS_CHAT_MODIFIER, CLASS_CHAT_CLICKABLE));
+  private static final @Nullable MethodHandle MODIFIER_GET_HOVER = findGetterOf(findFieldOfType(CLASS_CHAT_MODIFIER, CLASS_CHAT_HOVERABLE));
+  private static final @Nullable MethodHandle MODIFIER_GET_INSERTION = findGetterOf(findFieldOfType(CLASS_CHAT_MODIFIER, String.class));
+  private static final @Nullable MethodHandle CLICK_GET_ACTION = findGetterOf(findFieldOfType(CLASS_CHAT_CLICKABLE, CLASS_CHAT_CLICK_ACTION));
+  private static final @Nullable MethodHandle CLICK_GET_VALUE = findGetterOf(findFieldOfType(CLASS_CHAT_CLICKABLE, String.class));
+  private static final @Nullable MethodHandle HOVER_GET_ACTION = findGetterOf(findFieldOfType(CLASS_CHAT_HOVERABLE, CLASS_CHAT_HOVER_ACTION));
+  private static final @Nullable MethodHandle HOVER_GET_VALUE = findGetterOf(findFieldOfType(CLASS_CHAT_HOVERABLE, CLASS_CHAT_COMPONENT));
+
+  private static final Map<TextDecoration, MethodHandle> MODIFIER_SET_DECORATION = new EnumMap<>(TextDecoration.class);
+  private static final Map<TextDecoration, MethodHandle> MODIFIER_GET_DECORATION = new EnumMap<>(TextDecoration.class);
+  private static final Map<NamedTextColor, Object> COLORS = new HashMap<>();
+  private static final Map<Object, NamedTextColor> COLORS_REVERSE = new HashMap<>();
+  private static final Map<ClickEvent.Action, Object> CLICK_ACTIONS = new EnumMap<>(ClickEvent.Action.class);
+  private static final Map<Object, ClickEvent.Action> CLICK_ACTIONS_REVERSE = new HashMap<>();
+  private static final @Nullable Object HOVER_SHOW_TEXT;
+
+  static {
+    final String[] setters = {"setBold", "setItalic", "setUnderline", "setStrikethrough", "setRandom"};
+    final TextDecoration[] types = {TextDecoration.BOLD, TextDecoration.ITALIC, TextDecoration.UNDERLINED, TextDecoration.STRIKETHROUGH, TextDecoration.OBFUSCATED};
+    for(int i = 0; i < types.length; i++) {
+      final MethodHandle setter = findMethod(CLASS_CHAT_MODIFIER, setters[i], CLASS_CHAT_MODIFIER, Boolean.class);
+      if(setter != null) MODIFIER_SET_DECORATION.put(types[i], setter);
+    }
+
+    // Decoration fields are obfuscated and share a type, so each one is found by setting it on an empty modifier
+    if(MODIFIER_NEW != null && CLASS_CHAT_HEX_COLOR == null) {
+      final List<Field> flags = new ArrayList<>();
+      for(final Field field : CLASS_CHAT_MODIFIER.getDeclaredFields()) {
+        if(!Modifier.isStatic(field.getModifiers()) && field.getType() == Boolean.class) {
+          flags.add(field);
+        }
+      }
+      try {
+        for(final Map.Entry<TextDecoration, MethodHandle> setter : MODIFIER_SET_DECORATION.entrySet()) {
+          final Object probe = MODIFIER_NEW.invoke();
+          setter.getValue().invoke(probe, Boolean.TRUE);
+          for(final Field field : flags) {
+            field.setAccessible(true);
+            if(Boolean.TRUE.equals(field.get(probe))) {
+              final MethodHandle getter = findGetterOf(field);
+              if(getter != null) MODIFIER_GET_DECORATION.put(setter.getKey(), getter);
+            }
+          }
+        }
+      } catch(final Throwable error) {
+        MODIFIER_GET_DECORATION.clear(); // Components are read through JSON
+      }
+    }
+
+    for(final NamedTextColor color : NamedTextColor.NAMES.values()) {
+      final Object format = findEnum(CLASS_CHAT_FORMAT, NamedTextColor.NAMES.key(color).toUpperCase(Locale.ROOT));
+      if(format == null) continue;
+
+      COLORS_REVERSE.put(format, color);
+      if(HEX_COLOR_FROM_FORMAT == null) {
+        COLORS.put(color, format);
+      } else {
+        try {
+          COLORS.put(color, HEX_COLOR_FROM_FORMAT.invoke(format));
+        } catch(final Throwable error) {
+          // Color is left unmapped, so components with it use the JSON path
+        }
+      }
+    }
+
+    for(final ClickEvent.Action action : ClickEvent.Action.values()) {
+      final Object mcAction = findEnum(CLASS_CHAT_CLICK_ACTION, action.name());
+      if(mcAction == null) continue; // Not in this version, so events with it use the JSON path
+
+      CLICK_ACTIONS.put(action, mcAction);
+      CLICK_ACTIONS_REVERSE.put(mcAction, action);
+    }
+
+    // An enum before 1.16 and a constant after, both named the same
+    Object showText = null;
+    final Field showTextField = findField(CLASS_CHAT_HOVER_ACTION, "SHOW_TEXT");
+    if(showTextField != null && Modifier.isStatic(showTextField.getModifiers())) {
+      try {
+        showText = showTextField.get(null);
+      } catch(final IllegalAccessException error) {
+        // Hover events use the JSON path
+      }
+    }
+    HOVER_SHOW_TEXT = showText;
+  }
+
+  private static final boolean SUPPORTED = TEXT_NEW != null && COMPONENT_ADD_SIBLING != null
+    && COMPONENT_GET_MODIFIER != null && COMPONENT_SET_MODIFIER != null && MODIFIER_SET_COLOR != null
+    && MODIFIER_SET_DECORATION.size() == TextDecoration.values().length
+    && COLORS.size() == NamedTextColor.NAMES.values().size()
+    && (CLASS_CHAT_HEX_COLOR == null || HEX_COLOR_FROM_RGB != null);
+  // Fonts were added with hex colors and cannot be detected, so only older versions are read directly
+  private static final boolean SUPPORTED_REVERSE = CLASS_CHAT_HEX_COLOR == null && CLASS_CHAT_COMPONENT_TEXT != null
+    && COMPONENT_GET_TEXT != null && COMPONENT_GET_SIBLINGS != null && COMPONENT_GET_MODIFIER != null
+    && MODIFIER_GET_COLOR != null && MODIFIER_GET_CLICK != null && MODIFIER_GET_HOVER != null && MODIFIER_GET_INSERTION != null
+    && MODIFIER_GET_DECORATION.size() == TextDecoration.values().length
+    && COLORS_REVERSE.size() == NamedTextColor.NAMES.values().size();
+
+  /**
+   * Converts a component to a {@code IChatBaseComponent}.
+   *
+   * @param component a component
+   * @return a {@code IChatBaseComponent}, or {@code null} if the component must be converted through JSON
+   */
+  static @Nullable Object toMinecraft(final @NonNull Component component) {
+    if(!SUPPORTED) return null;
+
+    try {
+      return convert(component);
+    } catch(final Throwable error) {
+      return null;
+    }
+  }
+
+  /**
+   * Converts a {@code IChatBaseComponent} to a component.
+   *
+   * @param input a {@code IChatBaseComponent}
+   * @return a component, or {@code null} if the input must be converted through JSON
+   */
+  static @Nullable Component fromMinecraft(final @NonNull Object input) {
+    if(!SUPPORTED_REVERSE) return null;
+
+    try {
+      return convertReverse(input);
+    } catch(final Throwable error) {
+      return null;
+    }
+  }
+
+  private static @Nullable Object convert(final @NonNull Component component) throws Throwable {
+    if(!(component instanceof TextComponent)) return null;
+
+    final Style style = component.style();
+    if(style.font() != null) return null;
+
+    final Object text = TEXT_NEW.invoke(((TextComponent) component).content());
+    Object modifier = COMPONENT_GET_MODIFIER.invoke(text);
+
+    final TextColor color = style.color();
+    if(color != null) {
+      final Object mcColor;
+      if(color instanceof NamedTextColor) {
+        mcColor = COLORS.get(color);
+      } else if(HEX_COLOR_FROM_RGB != null) {
+        mcColor = HEX_COLOR_FROM_RGB.invoke(color.value());
+      } else {
+        mcColor = COLORS.get(NamedTextColor.nearestTo(color));
+      }
+      modifier = MODIFIER_SET_COLOR.invoke(modifier, mcColor);
+    }
+
+    for(final Map.Entry<TextDecoration, MethodHandle> decoration : MODIFIER_SET_DECORATION.entrySet()) {
+      final TextDecoration.State state = style.decoration(decoration.getKey());
+      if(state != TextDecoration.State.NOT_SET) {
+        modifier = decoration.getValue().invoke(modifier, state == TextDecoration.State.TRUE ? Boolean.TRUE : Boolean.FALSE);
+      }
+    }
+
+    final ClickEvent click = style.clickEvent();
+    if(click != null) {
+      final Object action = CLICK_ACTIONS.get(click.action());
+      if(action == null || CLICK_NEW == null || MODIFIER_SET_CLICK == null) return null;
+      modifier = MODIFIER_SET_CLICK.invoke(modifier, CLICK_NEW.invoke(action, click.value()));
+    }
+
+    final HoverEvent<?> hover = style.hoverEvent();
+    if(hover != null) {
+      // Items and entities are stored as text before 1.16, so only text is converted
+      if(hover.action() != HoverEvent.Action.SHOW_TEXT || HOVER_SHOW_TEXT == null || HOVER_NEW == null || MODIFIER_SET_HOVER == null) return null;
+      final Object value = convert((Component) hover.value());
+      if(value == null) return null;
+      modifier = MODIFIER_SET_HOVER.invoke(modifier, HOVER_NEW.invoke(HOVER_SHOW_TEXT, value));
+    }
+
+    final String insertion = style.insertion();
+    if(insertion != null) {
+      if(MODIFIER_SET_INSERTION == null) return null;
+      modifier = MODIFIER_SET_INSERTION.invoke(modifier, insertion);
+    }
+    COMPONENT_SET_MODIFIER.invoke(text, modifier);
+
+    for(final Component child : component.children()) {
+      final Object mcChild = convert(child);
+      if(mcChild == null) return null;
+      COMPONENT_ADD_SIBLING.invoke(text, mcChild);
+    }
+    return text;
+  }
+
+  private static @Nullable Component convertReverse(final @NonNull Object input) throws Throwable {
+    if(input.getClass() != CLASS_CHAT_COMPONENT_TEXT) return null;
+
+    final Object modifier = COMPONENT_GET_MODIFIER.invoke(input);
+    final Style.Builder style = Style.builder();
+    final Object mcColor = MODIFIER_GET_COLOR.invoke(modifier);
+    if(mcColor != null) {
+      final NamedTextColor color = COLORS_REVERSE.get(mcColor);
+      if(color == null) return null; // Formatting codes, not colors
+      style.color(color);
+    }
+    for(final Map.Entry<TextDecoration, MethodHandle> decoration : MODIFIER_GET_DECORATION.entrySet()) {
+      final Boolean state = (Boolean) decoration.getValue().invoke(modifier);
+      if(state != null) {
+        style.decoration(decoration.getKey(), state);
+      }
+    }
+
+    final Object click = MODIFIER_GET_CLICK.invoke(modifier);
+    if(click != null) {
+      if(CLICK_GET_ACTION == null || CLICK_GET_VALUE == null) return null;
+      final ClickEvent.Action action = CLICK_ACTIONS_REVERSE.get(CLICK_GET_ACTION.invoke(click));
+      final String value = (String) CLICK_GET_VALUE.invoke(click);
+      if(action == null || value == null) return null;
+      style.clickEvent(ClickEvent.of(action, value));
+    }
+
+    final Object hover = MODIFIER_GET_HOVER.invoke(modifier);
+    if(hover != null) {
+      if(HOVER_GET_ACTION == null || HOVER_GET_VALUE == null || HOVER_GET_ACTION.invoke(hover) != HOVER_SHOW_TEXT) return null;
+      final Object value = HOVER_GET_VALUE.invoke(hover);
+      final Component text = value == null ? null : convertReverse(value);
+      if(text == null) return null;
+      style.hoverEvent(HoverEvent.showText(text));
+    }
+
+    final String insertion = (String) MODIFIER_GET_INSERTION.invoke(modifier);
+    if(insertion != null) {
+      style.insertion(insertion);
+    }
+
+    final List<?> siblings = (List<?>) COMPONENT_GET_SIBLINGS.invoke(input);
+    final List<Component> children = new ArrayList<>(siblings.size());
+    for(final Object sibling : siblings) {
+      final Component child = convertReverse(sibling);
+      if(child == null) return null;
+      children.add(child);
+    }
+
+    return Component.text((String) COMPONENT_GET_TEXT.invoke(input), style.build()).children(children);
+  }
+}
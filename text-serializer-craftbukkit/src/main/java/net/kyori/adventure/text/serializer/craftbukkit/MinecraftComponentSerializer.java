@@ -52,6 +52,8 @@ import static net.kyori.adventure.text.serializer.craftbukkit.MinecraftReflectio
  *
  * <p>Color downsampling will be performed as necessary for the running server version.</p>
  *
+ * <p>Simple text components are converted directly, other components are converted through JSON.</p>
+ *
  * <p>If not {@link #isSupported()}, an {@link UnsupportedOperationException} will be thrown on any serialize or deserialize operations.</p>
  *
  * @see #get()
@@ -159,6 +161,9 @@ public final class MinecraftComponentSerializer implements ComponentSerializer<C
   public @NonNull Component deserialize(final @NonNull Object input) {
     if(!SUPPORTED) throw INITIALIZATION_ERROR.get();
 
+    final Component converted = MinecraftComponentConverter.fromMinecraft(input);
+    if(converted != null) return converted;
+
     try {
       if(MC_TEXT_GSON != null) {
         final JsonElement element = ((Gson) MC_TEXT_GSON).toJsonTree(input);
@@ -174,6 +179,9 @@ public final class MinecraftComponentSerializer implements ComponentSerializer<C
   public @NonNull Object serialize(final @NonNull Component component) {
     if(!SUPPORTED) throw INITIALIZATION_ERROR.get();
 
+    final Object converted = MinecraftComponentConverter.toMinecraft(component);
+    if(converted != null) return converted;
+
     if(MC_TEXT_GSON != null) {
       final JsonElement json = gson().serializer().toJsonTree(component);
       try {
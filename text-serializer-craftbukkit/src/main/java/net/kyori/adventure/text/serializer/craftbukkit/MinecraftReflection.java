@@ -27,9 +27,11 @@ import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 
 import com.google.common.annotations.Beta;
 import org.bukkit.Bukkit;
+import org.bukkit.Server;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.common.reflection.qual.ForName;
@@ -54,8 +56,9 @@ public final class MinecraftReflection {
   private static final @Nullable String VERSION;
 
   static {
-    final Class<?> serverClass = Bukkit.getServer().getClass(); // TODO: use reflection here too?
-    if(!serverClass.getSimpleName().equals(CRAFT_SERVER)) {
+    final Server server = Bukkit.getServer(); // TODO: use reflection here too?
+    final Class<?> serverClass = server == null ? null : server.getClass(); // Not set outside of a server, such as in tests
+    if(serverClass == null || !serverClass.getSimpleName().equals(CRAFT_SERVER)) {
       VERSION = null;
     } else if(serverClass.getName().equals(PREFIX_CRAFTBUKKIT + "." + CRAFT_SERVER)) {
       VERSION = ".";
@@ -197,6 +200,21 @@ public final class MinecraftReflection {
     }
   }
 
+  /**
+   * Gets the first method handle that was found.
+   *
+   * <p>Useful when a method has different names or types between versions.</p>
+   *
+   * @param handles an array of method handles, each {@code null} if not found
+   * @return a method handle or {@code null} if none were found
+   */
+  public static @Nullable MethodHandle first(final @Nullable MethodHandle@NonNull... handles) {
+    for(final MethodHandle handle : handles) {
+      if(handle != null) return handle;
+    }
+    return null;
+  }
+
   /**
    * Gets a class field and makes it accessible.
    *
@@ -247,6 +265,33 @@ public final class MinecraftReflection {
     return field;
   }
 
+  /**
+   * Gets the only instance field of a type and makes it accessible.
+   *
+   * <p>Field names are obfuscated and change between versions, so this finds a field by its type instead.</p>
+   *
+   * @param holderClass a class
+   * @param fieldType the field type
+   * @return an accessible field or {@code null} if there is not exactly one field of the type
+   */
+  public static @Nullable Field findFieldOfType(final @Nullable Class<?> holderClass, final @Nullable Class<?> fieldType) {
+    if(holderClass == null || fieldType == null) return null;
+
+    Field found = null;
+    for(final Field field : holderClass.getDeclaredFields()) {
+      if(Modifier.isStatic(field.getModifiers()) || field.getType() != fieldType) continue;
+      if(found != null) return null;
+      found = field;
+    }
+
+    try {
+      if(found != null) found.setAccessible(true);
+    } catch(final RuntimeException e) {
+      return null;
+    }
+    return found;
+  }
+
   /**
    * Return a method handle that can set the value of the provided field.
    *
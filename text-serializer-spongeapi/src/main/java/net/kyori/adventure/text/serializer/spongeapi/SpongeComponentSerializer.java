@@ -61,11 +61,15 @@ public final class SpongeComponentSerializer implements ComponentSerializer<Comp
 
   @Override
   public @NonNull Component deserialize(final @NonNull Text input) {
-    return LEGACY_GSON_SERIALIZER.deserialize(TextSerializers.JSON.serialize(requireNonNull(input, "text")));
+    final Component component = TextConverter.fromSponge(requireNonNull(input, "text"));
+    if(component != null) return component;
+    return LEGACY_GSON_SERIALIZER.deserialize(TextSerializers.JSON.serialize(input));
   }
 
   @Override
   public @NonNull Text serialize(final @NonNull Component component) {
-    return TextSerializers.JSON.deserialize(LEGACY_GSON_SERIALIZER.serialize(requireNonNull(component, "component")));
+    final Text text = TextConverter.toSponge(requireNonNull(component, "component"));
+    if(text != null) return text;
+    return TextSerializers.JSON.deserialize(LEGACY_GSON_SERIALIZER.serialize(component));
   }
 }
@@ -0,0 +1,304 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.spongeapi;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.text.LiteralText;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.TranslatableText;
+import org.spongepowered.api.text.action.ClickAction;
+import org.spongepowered.api.text.action.HoverAction;
+import org.spongepowered.api.text.action.ShiftClickAction;
+import org.spongepowered.api.text.action.TextActions;
+import org.spongepowered.api.text.format.TextColor;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.format.TextFormat;
+import org.spongepowered.api.text.format.TextStyle;
+import org.spongepowered.api.text.translation.FixedTranslation;
+import org.spongepowered.api.text.translation.Translation;
+
+/**
+ * Converts between {@link Component}s and {@link Text} without JSON.
+ *
+ * <p>Text and translatable components are converted with their colors, decorations, click and text hover events,
+ * and insertions. Colors are downsampled, the same as the JSON path. Anything else, such as fonts, other hover events
+ * or other component types, returns {@code null} so the JSON path can be used instead.</p>
+ */
+final class TextConverter {
+  private TextConverter() {
+  }
+
+  /**
+   * Converts a component to {@link Text}.
+   *
+   * @param component a component
+   * @return a {@link Text}, or {@code null} if the component must be converted through JSON
+   */
+  static @Nullable Text toSponge(final @NonNull Component component) {
+    try {
+      return convert(component);
+    } catch(final Throwable error) {
+      // Includes errors from catalog types that are not registered yet, the JSON path still works
+      return null;
+    }
+  }
+
+  /**
+   * Converts {@link Text} to a component.
+   *
+   * @param input a {@link Text}
+   * @return a component, or {@code null} if the input must be converted through JSON
+   */
+  static @Nullable Component fromSponge(final @NonNull Text input) {
+    try {
+      return convertReverse(input);
+    } catch(final Throwable error) {
+      return null;
+    }
+  }
+
+  private static @Nullable Text convert(final @NonNull Component component) throws MalformedURLException {
+    final Text.Builder output;
+    if(component instanceof TextComponent) {
+      output = Text.builder(((TextComponent) component).content());
+    } else if(component instanceof TranslatableComponent) {
+      final List<Component> args = ((TranslatableComponent) component).args();
+      final Object[] with = new Object[args.size()];
+      for(int i = 0; i < with.length; i++) {
+        with[i] = convert(args.get(i));
+        if(with[i] == null) return null;
+      }
+      output = Text.builder(translation(((TranslatableComponent) component).key()), with);
+    } else {
+      return null;
+    }
+
+    final Style style = component.style();
+    if(style.font() != null) return null;
+
+    if(style.color() != null) {
+      output.color(color(NamedTextColor.nearestTo(style.color())));
+    }
+    output.style(new TextStyle(
+      decoration(style, TextDecoration.BOLD),
+      decoration(style, TextDecoration.ITALIC),
+      decoration(style, TextDecoration.UNDERLINED),
+      decoration(style, TextDecoration.STRIKETHROUGH),
+      decoration(style, TextDecoration.OBFUSCATED)
+    ));
+
+    final ClickEvent click = style.clickEvent();
+    if(click != null) {
+      final ClickAction<?> action = clickAction(click);
+      if(action == null) return null;
+      output.onClick(action);
+    }
+
+    final HoverEvent<?> hover = style.hoverEvent();
+    if(hover != null) {
+      if(hover.action() != HoverEvent.Action.SHOW_TEXT) return null;
+      final Text value = convert((Component) hover.value());
+      if(value == null) return null;
+      output.onHover(TextActions.showText(value));
+    }
+
+    if(style.insertion() != null) {
+      output.onShiftClick(TextActions.insertText(style.insertion()));
+    }
+
+    for(final Component child : component.children()) {
+      final Text spongeChild = convert(child);
+      if(spongeChild == null) return null;
+      output.append(spongeChild);
+    }
+    return output.build();
+  }
+
+  private static @Nullable Component convertReverse(final @NonNull Text input) {
+    final Style.Builder style = Style.builder();
+
+    final TextFormat format = input.getFormat();
+    final TextColor color = format.getColor();
+    if(color != TextColors.NONE) {
+      final NamedTextColor named = colorReverse(color);
+      if(named == null) return null; // Reset is not a color
+      style.color(named);
+    }
+    final TextStyle textStyle = format.getStyle();
+    style.decoration(TextDecoration.BOLD, state(textStyle.isBold()));
+    style.decoration(TextDecoration.ITALIC, state(textStyle.isItalic()));
+    style.decoration(TextDecoration.UNDERLINED, state(textStyle.hasUnderline()));
+    style.decoration(TextDecoration.STRIKETHROUGH, state(textStyle.hasStrikethrough()));
+    style.decoration(TextDecoration.OBFUSCATED, state(textStyle.isObfuscated()));
+
+    final Optional<ClickAction<?>> click = input.getClickAction();
+    if(click.isPresent()) {
+      final ClickEvent event = clickEventReverse(click.get());
+      if(event == null) return null;
+      style.clickEvent(event);
+    }
+
+    final Optional<HoverAction<?>> hover = input.getHoverAction();
+    if(hover.isPresent()) {
+      if(!(hover.get() instanceof HoverAction.ShowText)) return null;
+      final Component text = convertReverse(((HoverAction.ShowText) hover.get()).getResult());
+      if(text == null) return null;
+      style.hoverEvent(HoverEvent.showText(text));
+    }
+
+    final Optional<ShiftClickAction<?>> shiftClick = input.getShiftClickAction();
+    if(shiftClick.isPresent()) {
+      if(!(shiftClick.get() instanceof ShiftClickAction.InsertText)) return null;
+      style.insertion(((ShiftClickAction.InsertText) shiftClick.get()).getResult());
+    }
+
+    final List<Component> children = convertReverse(input.getChildren());
+    if(children == null) return null;
+
+    if(input instanceof LiteralText) {
+      return Component.text(((LiteralText) input).getContent(), style.build()).children(children);
+    } else if(input instanceof TranslatableText) {
+      final List<Object> arguments = ((TranslatableText) input).getArguments();
+      final List<Component> args = new ArrayList<>(arguments.size());
+      for(final Object argument : arguments) {
+        if(!(argument instanceof Text)) return null;
+        final Component arg = convertReverse((Text) argument);
+        if(arg == null) return null;
+        args.add(arg);
+      }
+      return Component.translatable(((TranslatableText) input).getTranslation().getId(), style.build()).args(args).children(children);
+    }
+    return null;
+  }
+
+  private static @Nullable List<Component> convertReverse(final @NonNull List<Text> input) {
+    final List<Component> output = new ArrayList<>(input.size());
+    for(final Text text : input) {
+      final Component converted = convertReverse(text);
+      if(converted == null) return null;
+      output.add(converted);
+    }
+    return output;
+  }
+
+  // Registered translations are resolved on the server, the same as the JSON path
+  private static @NonNull Translation translation(final @NonNull String key) {
+    final Optional<Translation> translation = Sponge.getRegistry().getTranslationById(key);
+    return translation.isPresent() ? translation.get() : new FixedTranslation(key);
+  }
+
+  private static @Nullable ClickAction<?> clickAction(final @NonNull ClickEvent click) throws MalformedURLException {
+    switch(click.action()) {
+      case OPEN_URL:
+        return TextActions.openUrl(new URL(click.value()));
+      case RUN_COMMAND:
+        return TextActions.runCommand(click.value());
+      case SUGGEST_COMMAND:
+        return TextActions.suggestCommand(click.value());
+      case CHANGE_PAGE:
+        return TextActions.changePage(Integer.parseInt(click.value()));
+      default:
+        return null;
+    }
+  }
+
+  private static @Nullable ClickEvent clickEventReverse(final @NonNull ClickAction<?> click) {
+    if(click instanceof ClickAction.OpenUrl) {
+      return ClickEvent.openUrl(((ClickAction.OpenUrl) click).getResult().toString());
+    } else if(click instanceof ClickAction.RunCommand) {
+      return ClickEvent.runCommand(((ClickAction.RunCommand) click).getResult());
+    } else if(click instanceof ClickAction.SuggestCommand) {
+      return ClickEvent.suggestCommand(((ClickAction.SuggestCommand) click).getResult());
+    } else if(click instanceof ClickAction.ChangePage) {
+      return ClickEvent.changePage(((ClickAction.ChangePage) click).getResult());
+    }
+    return null;
+  }
+
+  private static @NonNull TextColor color(final @NonNull NamedTextColor color) {
+    if(color == NamedTextColor.BLACK) {
+      return TextColors.BLACK;
+    } else if(color == NamedTextColor.DARK_BLUE) {
+      return TextColors.DARK_BLUE;
+    } else if(color == NamedTextColor.DARK_GREEN) {
+      return TextColors.DARK_GREEN;
+    } else if(color == NamedTextColor.DARK_AQUA) {
+      return TextColors.DARK_AQUA;
+    } else if(color == NamedTextColor.DARK_RED) {
+      return TextColors.DARK_RED;
+    } else if(color == NamedTextColor.DARK_PURPLE) {
+      return TextColors.DARK_PURPLE;
+    } else if(color == NamedTextColor.GOLD) {
+      return TextColors.GOLD;
+    } else if(color == NamedTextColor.GRAY) {
+      return TextColors.GRAY;
+    } else if(color == NamedTextColor.DARK_GRAY) {
+      return TextColors.DARK_GRAY;
+    } else if(color == NamedTextColor.BLUE) {
+      return TextColors.BLUE;
+    } else if(color == NamedTextColor.GREEN) {
+      return TextColors.GREEN;
+    } else if(color == NamedTextColor.AQUA) {
+      return TextColors.AQUA;
+    } else if(color == NamedTextColor.RED) {
+      return TextColors.RED;
+    } else if(color == NamedTextColor.LIGHT_PURPLE) {
+      return TextColors.LIGHT_PURPLE;
+    } else if(color == NamedTextColor.YELLOW) {
+      return TextColors.YELLOW;
+    }
+    return TextColors.WHITE;
+  }
+
+  private static @Nullable NamedTextColor colorReverse(final @NonNull TextColor color) {
+    for(final NamedTextColor named : NamedTextColor.NAMES.values()) {
+      if(color(named) == color) return named;
+    }
+    return null;
+  }
+
+  private static @Nullable Boolean decoration(final @NonNull Style style, final @NonNull TextDecoration decoration) {
+    final TextDecoration.State state = style.decoration(decoration);
+    return state == TextDecoration.State.NOT_SET ? null : state == TextDecoration.State.TRUE;
+  }
+
+  private static TextDecoration.@NonNull State state(final @NonNull Optional<Boolean> value) {
+    return value.isPresent() ? TextDecoration.State.byBoolean(value.get()) : TextDecoration.State.NOT_SET;
+  }
+}
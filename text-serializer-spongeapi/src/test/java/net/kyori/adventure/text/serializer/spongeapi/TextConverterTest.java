@@ -0,0 +1,141 @@
+/*
+ * This file is part of adventure-platform, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.spongeapi;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.TranslatableText;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.format.TextStyle;
+import org.spongepowered.api.text.translation.FixedTranslation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TextConverterTest {
+  @Test
+  void testColorAndDecorations() {
+    final Component component = Component.text("a", NamedTextColor.RED).decoration(TextDecoration.BOLD, true).decoration(TextDecoration.ITALIC, false);
+    final Text converted = TextConverter.toSponge(component);
+    assertNotNull(converted);
+    assertTrue(converted.getFormat().getColor() == TextColors.RED);
+
+    final TextStyle style = converted.getFormat().getStyle();
+    assertEquals(Boolean.TRUE, style.isBold().orElse(null));
+    assertEquals(Boolean.FALSE, style.isItalic().orElse(null));
+    assertNull(style.hasUnderline().orElse(null));
+
+    assertEquals(component, TextConverter.fromSponge(converted));
+  }
+
+  @Test
+  void testHexColorDownsampled() {
+    final TextColor color = TextColor.color(0x123456);
+    final Text converted = TextConverter.toSponge(Component.text("hex", color));
+    assertNotNull(converted);
+
+    assertEquals(Component.text("hex", NamedTextColor.nearestTo(color)), TextConverter.fromSponge(converted));
+  }
+
+  @Test
+  void testResetColor() {
+    assertNull(TextConverter.fromSponge(Text.builder("reset").color(TextColors.RESET).build()));
+  }
+
+  @Test
+  void testClickEvents() {
+    for(final ClickEvent click : new ClickEvent[] {
+      ClickEvent.runCommand("/help"),
+      ClickEvent.suggestCommand("/msg "),
+      ClickEvent.openUrl("https://example.com/"),
+      ClickEvent.changePage(2)
+    }) {
+      final Component component = Component.text("click").clickEvent(click);
+      final Text converted = TextConverter.toSponge(component);
+      assertNotNull(converted, click::toString);
+
+      assertEquals(component, TextConverter.fromSponge(converted));
+    }
+  }
+
+  @Test
+  void testHoverAndInsertion() {
+    final Component component = Component.text("hover")
+      .hoverEvent(HoverEvent.showText(Component.text("tooltip", NamedTextColor.AQUA)))
+      .insertion("insertion");
+    final Text converted = TextConverter.toSponge(component);
+    assertNotNull(converted);
+
+    assertEquals(component, TextConverter.fromSponge(converted));
+  }
+
+  @Test
+  void testUnsupportedFallsBack() {
+    assertNull(TextConverter.toSponge(Component.text("copy").clickEvent(ClickEvent.copyToClipboard("copied"))));
+    assertNull(TextConverter.toSponge(Component.text("font", Style.builder().font(Key.key("uniform")).build())));
+    assertNull(TextConverter.toSponge(Component.text("parent").append(Component.keybind("key.jump"))));
+  }
+
+  @Test
+  void testTranslatableNonTextArgs() {
+    final Text input = Text.builder(new FixedTranslation("chat.type.text"), "name", Text.of("message")).build();
+    assertTrue(input instanceof TranslatableText);
+
+    assertNull(TextConverter.fromSponge(input));
+  }
+
+  @Test
+  void testTranslatableArgs() {
+    final Text input = Text.builder(new FixedTranslation("chat.type.text"), Text.of("name"), Text.builder("message").color(TextColors.RED).build()).build();
+
+    assertEquals(Component.translatable("chat.type.text", Component.text("name"), Component.text("message", NamedTextColor.RED)), TextConverter.fromSponge(input));
+  }
+
+  // Translations are looked up in the registry, so they need a running Sponge game
+  @Test
+  void testTranslatableRegistered() {
+    boolean game;
+    try {
+      game = Class.forName("org.spongepowered.api.Sponge").getMethod("getGame").invoke(null) != null;
+    } catch(final ReflectiveOperationException | LinkageError e) {
+      game = false;
+    }
+    assumeTrue(game, "No Sponge game");
+
+    final Text converted = TextConverter.toSponge(Component.translatable("chat.type.text", Component.text("name"), Component.text("message")));
+    assertTrue(converted instanceof TranslatableText);
+    assertEquals("chat.type.text", ((TranslatableText) converted).getTranslation().getId());
+  }
+}